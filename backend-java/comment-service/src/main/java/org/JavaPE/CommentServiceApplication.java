@@ -9,6 +9,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  *
  */
 @SpringBootApplication
+@EnableFeignClients
 public class CommentServiceApplication
 {
     public static void main( String[] args )
@@ -7,7 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(name = "post-service", path = "/posts")
+@FeignClient(name = "post-service", path = "/posts", fallbackFactory = PostClientFallbackFactory.class)
 public interface PostClient {
     @GetMapping("/published/{id}")
     PostDTO getPublishedPostById(
@@ -0,0 +1,17 @@
+package org.JavaPE.client;
+
+import org.JavaPE.controller.dto.PostDTO;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+// A 404 still reaches PublishedPostRegistry as "not published"; an outage must not look like one
+@Component
+public class PostClientFallbackFactory implements FallbackFactory<PostClient> {
+
+    @Override
+    public PostClient create(Throwable cause) {
+        return (postId, role) -> {
+            throw FeignFallbacks.unavailable("post-service", cause);
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package org.JavaPE.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Brings comment_count in line with the comment table at startup: fills it in the first time the
+ * counters are deployed and repairs any drift since. Reads idx_comment_post_created_id only.
+ * One instance does the work under a MySQL named lock and stamps comment_count_reconcile, so
+ * the rest of a rollout, and every restart within reconcile-interval, skip the aggregate.
+ * The stamp row is mapped as CommentCountReconciliation, so ddl-auto creates its table.
+ */
+@Component
+public class CommentCountReconciler implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentCountReconciler.class);
+    static final String LOCK_NAME = "comment_count_reconcile";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration reconcileInterval;
+
+    @Value("${comments.counts.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup = true;
+
+    public CommentCountReconciler(JdbcTemplate jdbcTemplate,
+                                  @Value("${comments.counts.reconcile-interval:24h}") String reconcileInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reconcileInterval = DurationStyle.detectAndParse(reconcileInterval);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        try {
+            // GET_LOCK belongs to the connection, so lock, work and release all run on one
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                reconcileUnderLock(new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            logger.warn("Could not reconcile comment counts: {}", e.getMessage());
+        }
+    }
+
+    private void reconcileUnderLock(JdbcTemplate connection) {
+        Integer locked = connection.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+        if (!Integer.valueOf(1).equals(locked)) {
+            logger.info("Comment counts are being reconciled by another instance");
+            return;
+        }
+        try {
+            Integer recent = connection.queryForObject(
+                    "SELECT COUNT(*) FROM comment_count_reconcile " +
+                            "WHERE id = 1 AND reconciled_at > NOW(6) - INTERVAL ? SECOND",
+                    Integer.class, reconcileInterval.toSeconds());
+            if (recent != null && recent > 0) {
+                logger.info("Comment counts were reconciled within {}, skipping", reconcileInterval);
+                return;
+            }
+            int upserted = connection.update(
+                    "INSERT INTO comment_count (post_id, comment_count) " +
+                            "SELECT * FROM (SELECT post_id, COUNT(*) AS counted FROM comment GROUP BY post_id) AS actual " +
+                            "ON DUPLICATE KEY UPDATE comment_count = actual.counted");
+            // A missing row already reads as zero, so counters of posts whose comments are all gone are dropped
+            int orphans = connection.update(
+                    "DELETE FROM comment_count WHERE NOT EXISTS " +
+                            "(SELECT 1 FROM comment WHERE comment.post_id = comment_count.post_id)");
+            connection.update("INSERT INTO comment_count_reconcile (id, reconciled_at) VALUES (1, NOW(6)) " +
+                    "ON DUPLICATE KEY UPDATE reconciled_at = NOW(6)");
+            logger.info("Reconciled comment counts ({} rows affected, {} orphans removed)", upserted, orphans);
+        } finally {
+            connection.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+        }
+    }
+}
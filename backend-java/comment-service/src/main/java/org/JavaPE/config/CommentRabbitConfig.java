@@ -0,0 +1,40 @@
+package org.JavaPE.config;
+
+import org.JavaPE.events.PostEvents;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CommentRabbitConfig {
+
+    // Every instance keeps its own published-post registry, so each one needs every event:
+    // a server-named, exclusive, auto-delete queue per instance instead of a shared durable one
+    @Bean
+    public Queue publishedPostQueue() {
+        return new AnonymousQueue();
+    }
+
+    // Declared here as well so the bindings do not depend on post-service having started first
+    @Bean
+    public TopicExchange commentPostExchange() {
+        return new TopicExchange(PostEvents.EXCHANGE);
+    }
+
+    @Bean
+    public Binding postPublishedBinding(Queue publishedPostQueue, TopicExchange commentPostExchange) {
+        return BindingBuilder.bind(publishedPostQueue).to(commentPostExchange).with(PostEvents.POST_PUBLISHED);
+    }
+
+    @Bean
+    public Binding postUnpublishedBinding(Queue publishedPostQueue, TopicExchange commentPostExchange) {
+        return BindingBuilder.bind(publishedPostQueue).to(commentPostExchange).with(PostEvents.POST_UNPUBLISHED);
+    }
+
+    // The outbox relay sends plain JSON without type headers; the listener parameter supplies the type
+    @Bean
+    public Jackson2JsonMessageConverter postEventsMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+}
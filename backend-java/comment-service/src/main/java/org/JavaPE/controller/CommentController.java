@@ -1,13 +1,17 @@
 package org.JavaPE.controller;
 
 import org.JavaPE.controller.DTO.CommentDTO;
+import org.JavaPE.controller.DTO.CommentPageDTO;
+import org.JavaPE.services.CommentOrder;
 import org.JavaPE.services.CommentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/comments")
@@ -17,6 +21,15 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    @Value("${comments.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${comments.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${comments.counts.max-post-ids:200}")
+    private int maxCountPostIds;
+
     public CommentController(CommentService commentService) {
         this.commentService = commentService;
     }
@@ -40,6 +53,40 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/post/{postId}/page")
+    public ResponseEntity<CommentPageDTO> getCommentsPage(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "newest") String order) {
+        logger.info("Received request to fetch a page of comments for post with ID: {}", postId);
+
+        CommentOrder commentOrder = CommentOrder.fromParam(order);
+        if (commentOrder == null) {
+            logger.warn("Unknown comment order: {}", order);
+            return ResponseEntity.badRequest().build();
+        }
+
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        CommentPageDTO page = commentService.getCommentsPage(postId, cursor, pageSize, commentOrder);
+        logger.info("Successfully fetched {} comments for post with ID: {}", page.getComments().size(), postId);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/counts")
+    public ResponseEntity<Map<Long, Long>> getCommentCounts(@RequestParam List<Long> postIds) {
+        logger.info("Received request to fetch comment counts for {} posts", postIds.size());
+
+        if (postIds.size() > maxCountPostIds) {
+            logger.warn("Rejected comment count lookup for {} posts. Limit is {}", postIds.size(), maxCountPostIds);
+            return ResponseEntity.badRequest().build();
+        }
+
+        Map<Long, Long> counts = commentService.getCommentCounts(postIds);
+        logger.info("Successfully fetched comment counts for {} posts", counts.size());
+        return ResponseEntity.ok(counts);
+    }
+
     @PutMapping("/{commentId}")
     public ResponseEntity<CommentDTO> updateComment(
             @PathVariable Long commentId,
@@ -0,0 +1,18 @@
+package org.JavaPE.controller.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentPageDTO {
+    private List<CommentDTO> comments;
+    // Opaque continuation token, null when this is the last page
+    private String nextCursor;
+}
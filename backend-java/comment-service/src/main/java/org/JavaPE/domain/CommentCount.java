@@ -0,0 +1,19 @@
+package org.JavaPE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Materialized number of comments per post, maintained alongside every comment insert and delete
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "comment_count")
+public class CommentCount {
+    @Id
+    private Long postId;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+}
@@ -0,0 +1,21 @@
+package org.JavaPE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Single row recording when comment_count was last rebuilt from the comment table
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "comment_count_reconcile")
+public class CommentCountReconciliation {
+    @Id
+    private Integer id;
+
+    @Column(name = "reconciled_at", nullable = false)
+    private LocalDateTime reconciledAt;
+}
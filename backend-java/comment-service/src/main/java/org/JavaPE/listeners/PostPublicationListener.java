@@ -0,0 +1,39 @@
+package org.JavaPE.listeners;
+
+import org.JavaPE.config.SpanAttributes;
+import org.JavaPE.events.PostEvents;
+import org.JavaPE.events.PostPublicationEvent;
+import org.JavaPE.services.PublishedPostRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PostPublicationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostPublicationListener.class);
+
+    private final PublishedPostRegistry publishedPostRegistry;
+    private final SpanAttributes spanAttributes;
+
+    public PostPublicationListener(PublishedPostRegistry publishedPostRegistry, SpanAttributes spanAttributes) {
+        this.publishedPostRegistry = publishedPostRegistry;
+        this.spanAttributes = spanAttributes;
+    }
+
+    @RabbitListener(queues = "#{publishedPostQueue.name}", messageConverter = "postEventsMessageConverter")
+    public void handlePublicationChange(PostPublicationEvent event,
+                                        @Header(AmqpHeaders.RECEIVED_ROUTING_KEY) String routingKey) {
+        spanAttributes.postId(event.getPostId());
+        if (PostEvents.POST_PUBLISHED.equals(routingKey)) {
+            logger.debug("Post {} published", event.getPostId());
+            publishedPostRegistry.markPublished(event.getPostId());
+        } else if (PostEvents.POST_UNPUBLISHED.equals(routingKey)) {
+            logger.debug("Post {} unpublished", event.getPostId());
+            publishedPostRegistry.markUnpublished(event.getPostId());
+        }
+    }
+}
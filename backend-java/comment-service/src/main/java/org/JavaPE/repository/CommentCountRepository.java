@@ -0,0 +1,20 @@
+package org.JavaPE.repository;
+
+import org.JavaPE.domain.CommentCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentCountRepository extends JpaRepository<CommentCount, Long> {
+    // Single atomic upsert, so concurrent comments on one post never lose an increment
+    @Modifying
+    @Query(value = "INSERT INTO comment_count (post_id, comment_count) VALUES (:postId, 1) " +
+            "ON DUPLICATE KEY UPDATE comment_count = comment_count + 1", nativeQuery = true)
+    void increment(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE CommentCount c SET c.commentCount = c.commentCount - 1 " +
+            "WHERE c.postId = :postId AND c.commentCount > 0")
+    void decrement(@Param("postId") Long postId);
+}
@@ -0,0 +1,16 @@
+package org.JavaPE.services;
+
+public enum CommentOrder {
+    NEWEST,
+    OLDEST;
+
+    // Lenient request parameter parsing; null when the value is not a known order
+    public static CommentOrder fromParam(String value) {
+        for (CommentOrder order : values()) {
+            if (order.name().equalsIgnoreCase(value)) {
+                return order;
+            }
+        }
+        return null;
+    }
+}
@@ -1,12 +1,16 @@
 package org.JavaPE.services;
 
 import org.JavaPE.controller.DTO.CommentDTO;
+import org.JavaPE.controller.DTO.CommentPageDTO;
 
 import java.util.List;
+import java.util.Map;
 
 public interface CommentService {
     CommentDTO addCommentToPost(Long postId, CommentDTO commentDTO);
     List<CommentDTO> getCommentsByPostId(Long postId);
+    CommentPageDTO getCommentsPage(Long postId, String cursor, int size, CommentOrder order);
+    Map<Long, Long> getCommentCounts(List<Long> postIds);
     CommentDTO updateComment(Long commentId, CommentDTO updatedCommentDTO);
     void deleteComment(Long commentId, String currentUser);
     CommentDTO editComment(Long commentId, String currentUser, CommentDTO commentDTO);
@@ -1,47 +1,56 @@
 package org.JavaPE.services;
 
-import org.JavaPE.client.PostClient;
+import jakarta.transaction.Transactional;
 import org.JavaPE.controller.DTO.CommentDTO;
-import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.controller.DTO.CommentPageDTO;
 import org.JavaPE.domain.Comment;
 import org.JavaPE.exception.CommentNotFoundException;
 import org.JavaPE.exception.InvalidAuthorException;
+import org.JavaPE.repository.CommentCountRepository;
 import org.JavaPE.repository.CommentRepository;
 import org.JavaPE.controller.converter.CommentConverter;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
-    private final PostClient postClient;
+    private final CommentCountRepository commentCountRepository;
+    private final PublishedPostRegistry publishedPostRegistry;
     private final CommentConverter commentConverter;
 
-    public CommentServiceImpl(CommentRepository commentRepository, PostClient postClient, CommentConverter commentConverter) {
+    public CommentServiceImpl(CommentRepository commentRepository, CommentCountRepository commentCountRepository,
+                              PublishedPostRegistry publishedPostRegistry, CommentConverter commentConverter) {
         this.commentRepository = commentRepository;
-        this.postClient = postClient;
+        this.commentCountRepository = commentCountRepository;
+        this.publishedPostRegistry = publishedPostRegistry;
         this.commentConverter = commentConverter;
     }
 
     @Override
+    @Transactional
     public CommentDTO addCommentToPost(Long postId, CommentDTO commentDTO) {
-        PostDTO postDTO = postClient.getPublishedPostById(postId, "editor");
-
-        if (postDTO == null) {
+        if (!publishedPostRegistry.isPublished(postId)) {
             throw new IllegalArgumentException("Cannot add comment. Post with ID " + postId + " is not published.");
         }
 
         Comment comment = commentConverter.toEntity(commentDTO);
+        // The path decides the post, so the comment and its counter row always agree
+        comment.setPostId(postId);
 
         if (comment.getCreatedAt() == null) {
             comment.setCreatedAt(LocalDateTime.now());
         }
 
         comment = commentRepository.save(comment);
+        commentCountRepository.increment(postId);
 
         return commentConverter.toDTO(comment);
     }
@@ -52,6 +61,48 @@ public class CommentServiceImpl implements CommentService {
         return comments.stream().map(commentConverter::toDTO).collect(Collectors.toList());
     }
 
+    @Override
+    public CommentPageDTO getCommentsPage(Long postId, String cursor, int size, CommentOrder order) {
+        // Fetch one extra row to learn whether another page follows
+        PageRequest limit = PageRequest.of(0, size + 1);
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+        List<Comment> comments;
+        if (order == CommentOrder.OLDEST) {
+            comments = after == null
+                    ? commentRepository.findOldestFirst(postId, limit)
+                    : commentRepository.findOldestFirstAfter(postId, after.createdAt(), after.id(), limit);
+        } else {
+            comments = after == null
+                    ? commentRepository.findNewestFirst(postId, limit)
+                    : commentRepository.findNewestFirstBefore(postId, after.createdAt(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, size);
+            Comment last = comments.get(size - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CommentPageDTO(
+                comments.stream().map(commentConverter::toDTO).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    @Override
+    public Map<Long, Long> getCommentCounts(List<Long> postIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return counts;
+        }
+
+        // Posts without a counter row have no comments yet
+        postIds.forEach(postId -> counts.put(postId, 0L));
+        commentCountRepository.findAllById(postIds)
+                .forEach(count -> counts.put(count.getPostId(), count.getCommentCount()));
+        return counts;
+    }
+
     @Override
     public CommentDTO updateComment(Long commentId, CommentDTO updatedCommentDTO) {
         Comment comment = commentRepository.findById(commentId)
@@ -69,6 +120,7 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional
     public void deleteComment(Long commentId, String currentUser) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("Comment not found"));
@@ -78,6 +130,7 @@ public class CommentServiceImpl implements CommentService {
         }
 
         commentRepository.delete(comment);
+        commentCountRepository.decrement(comment.getPostId());
     }
 
     @Override
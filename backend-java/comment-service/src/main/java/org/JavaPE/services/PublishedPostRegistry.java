@@ -0,0 +1,148 @@
+package org.JavaPE.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.JavaPE.client.PostClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Local view of which posts are published, kept current by post publish/unpublish events.
+ * Post ids are dense auto-increment keys, so a bit set holds them at one bit per post.
+ * Only a miss in both the set and the short-lived negative cache goes to post-service.
+ * Lookups are counted by where they were answered, which gives the registry's hit ratio.
+ */
+@Component
+public class PublishedPostRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublishedPostRegistry.class);
+
+    private final PostClient postClient;
+    private final BitSet published = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Cache<Long, Boolean> notPublished;
+    private final Counter localHits;
+    private final Counter negativeHits;
+    private final Counter remoteLookups;
+
+    // Bumped on every unpublish so a remote check that raced with one does not re-add the post
+    private final AtomicLong unpublishCount = new AtomicLong();
+
+    public PublishedPostRegistry(
+            MeterRegistry meterRegistry,
+            PostClient postClient,
+            @Value("${comments.published-posts.negative-cache.max-size:10000}") long negativeCacheMaxSize,
+            @Value("${comments.published-posts.negative-cache.ttl:30s}") String negativeCacheTtl) {
+        this.postClient = postClient;
+        this.notPublished = Caffeine.newBuilder()
+                .maximumSize(negativeCacheMaxSize)
+                .expireAfterWrite(DurationStyle.detectAndParse(negativeCacheTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, notPublished, "publishedPostsNegative");
+        this.localHits = lookups(meterRegistry, "local");
+        this.negativeHits = lookups(meterRegistry, "negative-cache");
+        this.remoteLookups = lookups(meterRegistry, "post-service");
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("comments.published-posts.lookups")
+                .description("Published-post checks, by where they were answered")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    public boolean isPublished(Long postId) {
+        if (contains(postId)) {
+            localHits.increment();
+            return true;
+        }
+        if (notPublished.getIfPresent(postId) != null) {
+            negativeHits.increment();
+            return false;
+        }
+        remoteLookups.increment();
+
+        long unpublishesBefore = unpublishCount.get();
+        boolean isPublished = fetchPublished(postId);
+        if (!isPublished) {
+            notPublished.put(postId, Boolean.TRUE);
+        } else if (unpublishCount.get() == unpublishesBefore) {
+            add(postId);
+        }
+        return isPublished;
+    }
+
+    public void markPublished(Long postId) {
+        notPublished.invalidate(postId);
+        add(postId);
+    }
+
+    public void markUnpublished(Long postId) {
+        unpublishCount.incrementAndGet();
+        remove(postId);
+        notPublished.put(postId, Boolean.TRUE);
+    }
+
+    private boolean fetchPublished(Long postId) {
+        logger.debug("Post {} not known locally, asking post-service", postId);
+        try {
+            return postClient.getPublishedPostById(postId, "editor") != null;
+        } catch (FeignException.NotFound e) {
+            return false;
+        }
+    }
+
+    private boolean contains(Long postId) {
+        if (!indexable(postId)) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return published.get(postId.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Long postId) {
+        if (!indexable(postId)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            published.set(postId.intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long postId) {
+        if (!indexable(postId)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            published.clear(postId.intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids beyond the bit set's range are never cached and always checked remotely
+    private static boolean indexable(Long postId) {
+        return postId != null && postId >= 0 && postId < Integer.MAX_VALUE;
+    }
+}
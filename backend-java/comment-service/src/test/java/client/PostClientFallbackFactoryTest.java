@@ -0,0 +1,37 @@
+package client;
+
+import feign.FeignException;
+import feign.Request;
+import org.JavaPE.client.PostClient;
+import org.JavaPE.client.PostClientFallbackFactory;
+import org.JavaPE.exception.DownstreamUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostClientFallbackFactoryTest {
+
+    private final PostClientFallbackFactory factory = new PostClientFallbackFactory();
+
+    @Test
+    void testOutageIsNotMistakenForAnUnpublishedPost() {
+        PostClient fallback = factory.create(new SocketTimeoutException("Read timed out"));
+
+        assertThrows(DownstreamUnavailableException.class, () -> fallback.getPublishedPostById(1L, "editor"));
+    }
+
+    @Test
+    void testNotFoundStillReachesTheCaller() {
+        FeignException.NotFound notFound = new FeignException.NotFound("Post not found",
+                Request.create(Request.HttpMethod.GET, "/posts/published/1", Map.of(), null, StandardCharsets.UTF_8, null),
+                null, Map.of());
+        PostClient fallback = factory.create(notFound);
+
+        assertSame(notFound, assertThrows(FeignException.NotFound.class,
+                () -> fallback.getPublishedPostById(1L, "editor")));
+    }
+}
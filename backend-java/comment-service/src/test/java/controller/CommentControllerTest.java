@@ -2,6 +2,8 @@ package controller;
 
 import org.JavaPE.controller.CommentController;
 import org.JavaPE.controller.DTO.CommentDTO;
+import org.JavaPE.controller.DTO.CommentPageDTO;
+import org.JavaPE.services.CommentOrder;
 import org.JavaPE.services.CommentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +16,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -81,6 +86,61 @@ public class CommentControllerTest {
         verify(commentService, times(1)).getCommentsByPostId(postId);
     }
 
+    @Test
+    void testGetCommentsPage_Success() throws Exception {
+        when(commentService.getCommentsPage(1L, "abc", 100, CommentOrder.OLDEST))
+                .thenReturn(new CommentPageDTO(List.of(commentDTO), "next"));
+
+        mockMvc.perform(get("/comments/post/{postId}/page", 1L)
+                        .param("cursor", "abc")
+                        .param("size", "500")
+                        .param("order", "oldest"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].id").value(commentDTO.getId()))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void testGetCommentsPage_DefaultsToNewest() throws Exception {
+        when(commentService.getCommentsPage(1L, null, 20, CommentOrder.NEWEST))
+                .thenReturn(new CommentPageDTO(List.of(), null));
+
+        mockMvc.perform(get("/comments/post/{postId}/page", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments").isEmpty());
+    }
+
+    @Test
+    void testGetCommentsPage_UnknownOrder() throws Exception {
+        mockMvc.perform(get("/comments/post/{postId}/page", 1L).param("order", "random"))
+                .andExpect(status().isBadRequest());
+
+        verify(commentService, never()).getCommentsPage(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testGetCommentCounts_Success() throws Exception {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        counts.put(1L, 3L);
+        counts.put(2L, 0L);
+        when(commentService.getCommentCounts(List.of(1L, 2L))).thenReturn(counts);
+
+        mockMvc.perform(get("/comments/counts").param("postIds", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1").value(3))
+                .andExpect(jsonPath("$.2").value(0));
+    }
+
+    @Test
+    void testGetCommentCounts_TooManyPostIds() throws Exception {
+        String postIds = String.join(",", Collections.nCopies(201, "1"));
+
+        mockMvc.perform(get("/comments/counts").param("postIds", postIds))
+                .andExpect(status().isBadRequest());
+
+        verify(commentService, never()).getCommentCounts(any());
+    }
+
     @Test
     void testUpdateComment_Success() throws Exception {
         // Arrange
@@ -0,0 +1,110 @@
+package org.JavaPE;
+
+import org.JavaPE.config.CommentCountReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(
+        classes = CommentServiceApplication.class,
+        properties = {
+                "eureka.client.enabled=false",
+                "spring.cloud.discovery.enabled=false",
+                "spring.jpa.hibernate.ddl-auto=create-drop"
+        }
+)
+@Testcontainers
+@ActiveProfiles("test")
+public class CommentCountReconcilerTests {
+
+    @Container
+    private static MySQLContainer<?> sqlContainer = new MySQLContainer<>("mysql:5.7")
+            .withDatabaseName("test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void registerMySQLProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", sqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", sqlContainer::getUsername);
+        registry.add("spring.datasource.password", sqlContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", sqlContainer::getDriverClassName);
+    }
+
+    @Autowired
+    private CommentCountReconciler reconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM comment_count");
+        // The startup run already stamped the marker
+        jdbcTemplate.update("DELETE FROM comment_count_reconcile");
+        insertComment(1L);
+        insertComment(1L);
+        jdbcTemplate.update("INSERT INTO comment_count (post_id, comment_count) VALUES (1, 5), (2, 3)");
+    }
+
+    @Test
+    public void testReconcileRepairsDriftAndRemovesOrphans() {
+        reconciler.run(null);
+
+        assertEquals(Map.of(1L, 2L), counts());
+    }
+
+    @Test
+    public void testReconcileRunsOncePerInterval() {
+        reconciler.run(null);
+        jdbcTemplate.update("INSERT INTO comment_count (post_id, comment_count) VALUES (3, 7)");
+
+        reconciler.run(null);
+
+        assertEquals(Map.of(1L, 2L, 3L, 7L), counts());
+    }
+
+    @Test
+    public void testReconcileSkipsWhileAnotherInstanceHoldsTheLock() {
+        // Another session holds the lock, as a second instance starting alongside would
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (var lock = connection.prepareStatement("SELECT GET_LOCK('comment_count_reconcile', 0)")) {
+                lock.executeQuery();
+            }
+            reconciler.run(null);
+            try (var release = connection.prepareStatement("SELECT RELEASE_LOCK('comment_count_reconcile')")) {
+                release.executeQuery();
+            }
+            return null;
+        });
+
+        assertEquals(Map.of(1L, 5L, 2L, 3L), counts());
+    }
+
+    private void insertComment(Long postId) {
+        jdbcTemplate.update("INSERT INTO comment (post_id, author, content, created_at) VALUES (?, 'user', 'text', NOW())", postId);
+    }
+
+    private Map<Long, Long> counts() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT post_id, comment_count FROM comment_count");
+        return rows.stream().collect(Collectors.toMap(
+                row -> ((Number) row.get("post_id")).longValue(),
+                row -> ((Number) row.get("comment_count")).longValue()));
+    }
+}
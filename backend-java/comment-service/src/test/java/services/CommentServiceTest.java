@@ -1,20 +1,27 @@
 package services;
 
-import org.JavaPE.client.PostClient;
 import org.JavaPE.controller.DTO.CommentDTO;
-import org.JavaPE.controller.dto.PostDTO;
 import org.JavaPE.domain.Comment;
+import org.JavaPE.domain.CommentCount;
 import org.JavaPE.exception.CommentNotFoundException;
 import org.JavaPE.exception.InvalidAuthorException;
+import org.JavaPE.repository.CommentCountRepository;
 import org.JavaPE.repository.CommentRepository;
 import org.JavaPE.controller.converter.CommentConverter;
+import org.JavaPE.controller.DTO.CommentPageDTO;
+import org.JavaPE.exception.InvalidCursorException;
+import org.JavaPE.services.CommentCursor;
+import org.JavaPE.services.CommentOrder;
 import org.JavaPE.services.CommentServiceImpl;
+import org.JavaPE.services.PublishedPostRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,7 +36,10 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
 
     @Mock
-    private PostClient postClient;
+    private CommentCountRepository commentCountRepository;
+
+    @Mock
+    private PublishedPostRegistry publishedPostRegistry;
 
     @Mock
     private CommentConverter commentConverter;
@@ -40,9 +50,6 @@ class CommentServiceTest {
     @Mock
     private CommentDTO commentDTO;
 
-    @Mock
-    private PostDTO postDTO;
-
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -52,7 +59,7 @@ class CommentServiceTest {
     void testAddCommentToPost_Success() {
         // Arrange
         Long postId = 1L;
-        when(postClient.getPublishedPostById(postId, "editor")).thenReturn(postDTO);
+        when(publishedPostRegistry.isPublished(postId)).thenReturn(true);
         when(commentConverter.toEntity(commentDTO)).thenReturn(comment);
         when(commentRepository.save(comment)).thenReturn(comment);
         when(commentConverter.toDTO(comment)).thenReturn(commentDTO);
@@ -62,17 +69,34 @@ class CommentServiceTest {
 
         // Assert
         assertNotNull(result);
-        verify(postClient).getPublishedPostById(postId, "editor");
+        verify(publishedPostRegistry).isPublished(postId);
         verify(commentRepository).save(comment);
+        verify(commentCountRepository).increment(postId);
         verify(commentConverter).toEntity(commentDTO);
         verify(commentConverter).toDTO(comment);
     }
 
+    @Test
+    void testAddCommentToPost_UsesPathPostId() {
+        Long postId = 1L;
+        Comment entity = new Comment();
+        entity.setPostId(2L);
+        when(publishedPostRegistry.isPublished(postId)).thenReturn(true);
+        when(commentConverter.toEntity(commentDTO)).thenReturn(entity);
+        when(commentRepository.save(entity)).thenReturn(entity);
+
+        commentService.addCommentToPost(postId, commentDTO);
+
+        assertEquals(postId, entity.getPostId());
+        verify(commentCountRepository).increment(postId);
+        verify(commentCountRepository, never()).increment(2L);
+    }
+
     @Test
     void testAddCommentToPost_PostNotPublished() {
         // Arrange
         Long postId = 1L;
-        when(postClient.getPublishedPostById(postId, "editor")).thenReturn(null);
+        when(publishedPostRegistry.isPublished(postId)).thenReturn(false);
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -80,7 +104,7 @@ class CommentServiceTest {
         );
 
         assertEquals("Cannot add comment. Post with ID 1 is not published.", exception.getMessage());
-        verify(postClient).getPublishedPostById(postId, "editor");
+        verify(publishedPostRegistry).isPublished(postId);
         verify(commentRepository, never()).save(any());
     }
 
@@ -100,6 +124,46 @@ class CommentServiceTest {
         verify(commentConverter).toDTO(comment);
     }
 
+    @Test
+    void testGetCommentsPage_NewestFirstWithNextCursor() {
+        Long postId = 1L;
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+        Comment newest = Comment.builder().id(3L).postId(postId).createdAt(now).build();
+        Comment middle = Comment.builder().id(2L).postId(postId).createdAt(now.minusMinutes(1)).build();
+        Comment extra = Comment.builder().id(1L).postId(postId).createdAt(now.minusMinutes(2)).build();
+        when(commentRepository.findNewestFirst(postId, PageRequest.of(0, 3)))
+                .thenReturn(List.of(newest, middle, extra));
+        when(commentConverter.toDTO(any(Comment.class))).thenReturn(commentDTO);
+
+        CommentPageDTO page = commentService.getCommentsPage(postId, null, 2, CommentOrder.NEWEST);
+
+        assertEquals(2, page.getComments().size());
+        assertEquals(new CommentCursor(middle.getCreatedAt(), 2L), CommentCursor.decode(page.getNextCursor()));
+        verify(commentConverter, times(2)).toDTO(any(Comment.class));
+    }
+
+    @Test
+    void testGetCommentsPage_OldestFirstAfterCursor() {
+        Long postId = 1L;
+        CommentCursor cursor = new CommentCursor(LocalDateTime.of(2025, 1, 10, 12, 0), 5L);
+        when(commentRepository.findOldestFirstAfter(postId, cursor.createdAt(), 5L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(comment));
+        when(commentConverter.toDTO(comment)).thenReturn(commentDTO);
+
+        CommentPageDTO page = commentService.getCommentsPage(postId, cursor.encode(), 10, CommentOrder.OLDEST);
+
+        assertEquals(1, page.getComments().size());
+        assertNull(page.getNextCursor());
+        verify(commentRepository, never()).findNewestFirstBefore(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetCommentsPage_MalformedCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> commentService.getCommentsPage(1L, "not-a-cursor", 10, CommentOrder.NEWEST));
+        verifyNoInteractions(commentRepository);
+    }
+
     @Test
     void testUpdateComment_Success() {
         // Arrange
@@ -158,6 +222,7 @@ class CommentServiceTest {
         Long commentId = 1L;
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
         when(comment.getAuthor()).thenReturn("Author");
+        when(comment.getPostId()).thenReturn(7L);
 
         // Act
         commentService.deleteComment(commentId, "Author");
@@ -165,6 +230,27 @@ class CommentServiceTest {
         // Assert
         verify(commentRepository).findById(commentId);
         verify(commentRepository).delete(comment);
+        verify(commentCountRepository).decrement(7L);
+    }
+
+    @Test
+    void testGetCommentCounts() {
+        when(commentCountRepository.findAllById(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new CommentCount(2L, 5L)));
+
+        Map<Long, Long> counts = commentService.getCommentCounts(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(1L, 2L, 3L), List.copyOf(counts.keySet()));
+        assertEquals(0L, counts.get(1L));
+        assertEquals(5L, counts.get(2L));
+        assertEquals(0L, counts.get(3L));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void testGetCommentCounts_Empty() {
+        assertTrue(commentService.getCommentCounts(List.of()).isEmpty());
+        verifyNoInteractions(commentCountRepository);
     }
 
     @Test
@@ -0,0 +1,102 @@
+package services;
+
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.JavaPE.client.PostClient;
+import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.services.PublishedPostRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PublishedPostRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostClient postClient;
+    private PublishedPostRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postClient = mock(PostClient.class);
+        registry = new PublishedPostRegistry(meterRegistry, postClient, 100, "30s");
+    }
+
+    @Test
+    void testPublishedEventAvoidsRemoteCheck() {
+        registry.markPublished(1L);
+
+        assertTrue(registry.isPublished(1L));
+        assertTrue(registry.isPublished(1L));
+        verifyNoInteractions(postClient);
+    }
+
+    @Test
+    void testMissFallsBackToPostServiceOnce() {
+        when(postClient.getPublishedPostById(2L, "editor")).thenReturn(new PostDTO());
+
+        assertTrue(registry.isPublished(2L));
+        assertTrue(registry.isPublished(2L));
+        verify(postClient, times(1)).getPublishedPostById(2L, "editor");
+    }
+
+    @Test
+    void testNotFoundIsCachedNegatively() {
+        when(postClient.getPublishedPostById(3L, "editor")).thenThrow(notFound());
+
+        assertFalse(registry.isPublished(3L));
+        assertFalse(registry.isPublished(3L));
+        verify(postClient, times(1)).getPublishedPostById(3L, "editor");
+    }
+
+    @Test
+    void testLookupsAreCountedBySource() {
+        when(postClient.getPublishedPostById(6L, "editor")).thenThrow(notFound());
+        registry.markPublished(1L);
+
+        registry.isPublished(1L);
+        registry.isPublished(6L);
+        registry.isPublished(6L);
+
+        assertEquals(1, lookups("local"));
+        assertEquals(1, lookups("post-service"));
+        assertEquals(1, lookups("negative-cache"));
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "publishedPostsNegative")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testPublishedEventClearsNegativeEntry() {
+        when(postClient.getPublishedPostById(4L, "editor")).thenThrow(notFound());
+        assertFalse(registry.isPublished(4L));
+
+        registry.markPublished(4L);
+
+        assertTrue(registry.isPublished(4L));
+    }
+
+    @Test
+    void testUnpublishedEvent() {
+        registry.markPublished(5L);
+        registry.markUnpublished(5L);
+
+        assertFalse(registry.isPublished(5L));
+        verifyNoInteractions(postClient);
+    }
+
+    private double lookups(String source) {
+        return meterRegistry.get("comments.published-posts.lookups").tag("source", source).counter().count();
+    }
+
+    private static FeignException notFound() {
+        Request request = Request.create(Request.HttpMethod.GET, "/posts/published", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("not found", request, null, Map.of());
+    }
+}
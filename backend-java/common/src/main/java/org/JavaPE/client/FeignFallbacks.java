@@ -0,0 +1,22 @@
+package org.JavaPE.client;
+
+import feign.FeignException;
+import org.JavaPE.exception.DownstreamUnavailableException;
+
+/**
+ * Helpers for Feign fallback factories. A fallback runs for every failed call, including
+ * 4xx answers, but those mean the downstream is healthy and said no; they are rethrown
+ * unchanged so callers can still tell "not found" from "not reachable".
+ */
+public final class FeignFallbacks {
+
+    private FeignFallbacks() {
+    }
+
+    public static RuntimeException unavailable(String service, Throwable cause) {
+        if (cause instanceof FeignException.FeignClientException clientError) {
+            return clientError;
+        }
+        return new DownstreamUnavailableException(service + " is unavailable: " + cause.getMessage(), cause);
+    }
+}
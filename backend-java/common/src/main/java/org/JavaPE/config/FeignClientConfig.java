@@ -0,0 +1,69 @@
+package org.JavaPE.config;
+
+import feign.RequestInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.Collection;
+
+/**
+ * Active in services that declare Feign clients. With feign-hc5 on the classpath,
+ * Spring Cloud OpenFeign sends all Feign clients through one pooled Apache HttpClient 5;
+ * pool size and timeouts are set per service under spring.cloud.openfeign.*.
+ * Here the pool's leased, available and pending counts are published as metrics.
+ * With spring.cloud.openfeign.circuitbreaker.enabled each client call also runs through a
+ * Resilience4j circuit breaker and semaphore bulkhead, tuned under resilience4j.*.
+ */
+@Configuration
+@ConditionalOnClass(FeignClient.class)
+public class FeignClientConfig {
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(manager -> {
+            if (manager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            }
+        });
+    }
+
+    // One breaker and bulkhead per client rather than per method: an outage takes out every
+    // endpoint of a service together, and per-method instances would each need their own warm-up
+    @Bean
+    public CircuitBreakerNameResolver feignCircuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> feignClientName;
+    }
+
+    // Spring Cloud's own request compression announces "gzip, deflate", and feign-hc5 refuses
+    // any request naming deflate. Naming gzip alone is enough: feign-hc5 then gzips the body itself.
+    @Bean
+    @ConditionalOnProperty(name = "feign-compression.request.enabled", havingValue = "true")
+    public RequestInterceptor gzipRequestInterceptor(
+            @Value("${feign-compression.request.min-size:2048}") int minSize) {
+        return template -> {
+            byte[] body = template.body();
+            if (body != null && body.length >= minSize
+                    && !template.headers().containsKey(HttpHeaders.CONTENT_ENCODING)
+                    && isJson(template.headers().get(HttpHeaders.CONTENT_TYPE))) {
+                template.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+        };
+    }
+
+    private static boolean isJson(Collection<String> contentType) {
+        return contentType != null && contentType.stream()
+                .anyMatch(value -> MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(value)));
+    }
+}
@@ -0,0 +1,140 @@
+package org.JavaPE.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Inflates gzip request bodies. Feign clients compress large JSON bodies, and the servlet
+ * container only handles compression on the response side. A few kilobytes of gzip can
+ * inflate to gigabytes, so the body is inflated up front into a buffer capped at
+ * gzip-requests.max-inflated-size; anything larger is refused with 413 before a controller runs.
+ */
+@Component
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private final int maxInflatedBytes;
+
+    public GzipRequestFilter(@Value("${gzip-requests.max-inflated-size:1MB}") String maxInflatedSize) {
+        this.maxInflatedBytes = (int) Math.min(DataSize.parse(maxInflatedSize).toBytes(), Integer.MAX_VALUE - 1);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        byte[] body;
+        try (GZIPInputStream gzip = new GZIPInputStream(request.getInputStream())) {
+            body = gzip.readNBytes(maxInflatedBytes + 1);
+        } catch (ZipException | EOFException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Malformed gzip request body");
+            return;
+        }
+        if (body.length > maxInflatedBytes) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                    "Request body inflates beyond " + maxInflatedBytes + " bytes");
+            return;
+        }
+        filterChain.doFilter(new GzipRequest(request, body), response);
+    }
+
+    private static final class GzipRequest extends HttpServletRequestWrapper {
+
+        private final ByteArrayInputStream body;
+
+        private GzipRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return body.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return body.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return body.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The inflated body is already in memory, so all of it is available at once
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        // Downstream readers must see neither the gzip encoding nor the compressed length
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (isHiddenHeader(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (isHiddenHeader(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        private static boolean isHiddenHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+                    || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.JavaPE.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tags the current observation (HTTP request, Rabbit listener, outbox relay) with the ids it
+ * concerns. They are high-cardinality values, so they end up on the trace span only and never
+ * as metric tags; nothing happens when no observation is in progress.
+ */
+@Component
+public class SpanAttributes {
+
+    public static final String POST_ID = "post.id";
+    public static final String REVIEW_ID = "review.id";
+
+    private final ObservationRegistry observationRegistry;
+
+    public SpanAttributes(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    public void postId(Object postId) {
+        tag(POST_ID, postId);
+    }
+
+    public void reviewId(Object reviewId) {
+        tag(REVIEW_ID, reviewId);
+    }
+
+    public void tag(String key, Object value) {
+        Observation current = observationRegistry.getCurrentObservation();
+        if (current != null && value != null) {
+            current.highCardinalityKeyValue(key, String.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.JavaPE.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Copies post and review ids from the request into the server span, so traces can be searched
+ * by the entity they touched. Path variables and query parameters named postId or reviewId are
+ * recognised everywhere; a plain {id} only where the service maps it to an attribute.
+ */
+public class SpanAttributesInterceptor implements HandlerInterceptor {
+
+    private final SpanAttributes spanAttributes;
+    private final String idAttribute;
+
+    public SpanAttributesInterceptor(SpanAttributes spanAttributes, String idAttribute) {
+        this.spanAttributes = spanAttributes;
+        this.idAttribute = idAttribute;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables == null) {
+            pathVariables = Map.of();
+        }
+
+        spanAttributes.postId(firstNonNull(pathVariables.get("postId"), request.getParameter("postId")));
+        spanAttributes.reviewId(firstNonNull(pathVariables.get("reviewId"), request.getParameter("reviewId")));
+        if (!idAttribute.isBlank()) {
+            spanAttributes.tag(idAttribute, pathVariables.get("id"));
+        }
+        return true;
+    }
+
+    private static String firstNonNull(String first, String second) {
+        return first != null ? first : second;
+    }
+}
@@ -0,0 +1,44 @@
+package org.JavaPE.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Shared by every service through the common module. Trace context itself is propagated by
+ * Micrometer Tracing on the OpenTelemetry bridge: HTTP server and Feign client observations use
+ * W3C traceparent headers, RabbitTemplate and listener observations carry it in message headers.
+ * Spans go to every SpanExporter bean: OTLP once management.otlp.tracing.endpoint is set, the
+ * log when tracing.logging-exporter.enabled is true, or an in-memory exporter in tests.
+ */
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<SpanAttributes> spanAttributes;
+    private final String idAttribute;
+
+    public TracingConfig(ObjectProvider<SpanAttributes> spanAttributes,
+                         @Value("${tracing.span-attributes.id:}") String idAttribute) {
+        this.spanAttributes = spanAttributes;
+        this.idAttribute = idAttribute;
+    }
+
+    // Sliced MVC tests load this configurer without the SpanAttributes component
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        spanAttributes.ifAvailable(attributes ->
+                registry.addInterceptor(new SpanAttributesInterceptor(attributes, idAttribute)));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.logging-exporter.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
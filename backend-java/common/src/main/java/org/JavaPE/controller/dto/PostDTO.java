@@ -24,4 +24,6 @@ public class PostDTO {
     @NotNull(message = "Status cannot be null")
     private String status;
     private String remarks;
+    private String contentHash;
+    private Long version;
 }
@@ -0,0 +1,18 @@
+package org.JavaPE.events;
+
+/**
+ * RabbitMQ names shared by the post-service publisher and its consumers.
+ */
+public final class PostEvents {
+
+    public static final String EXCHANGE = "postExchange";
+
+    public static final String POST_SUBMITTED_FOR_REVIEW = "post.submitted-for-review";
+
+    public static final String POST_PUBLISHED = "post.published";
+
+    public static final String POST_UNPUBLISHED = "post.unpublished";
+
+    private PostEvents() {
+    }
+}
@@ -0,0 +1,15 @@
+package org.JavaPE.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Payload of post.published and post.unpublished; the routing key says which
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostPublicationEvent {
+    private Long postId;
+}
@@ -0,0 +1,15 @@
+package org.JavaPE.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostSubmittedForReviewEvent {
+    private Long postId;
+    private String author;
+}
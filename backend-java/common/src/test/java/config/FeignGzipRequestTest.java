@@ -0,0 +1,76 @@
+package config;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Headers;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import org.JavaPE.config.FeignClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sends requests through a real feign-hc5 client, the way the services' Feign clients do.
+ */
+class FeignGzipRequestTest {
+
+    interface EchoClient {
+        @RequestLine("POST /echo")
+        @Headers("Content-Type: application/json")
+        String echo(String body);
+    }
+
+    private HttpServer server;
+    private volatile String receivedEncoding;
+    private EchoClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // Answers with the inflated body, as GzipRequestFilter hands it to the controllers
+        server.createContext("/echo", exchange -> {
+            receivedEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            InputStream body = "gzip".equals(receivedEncoding)
+                    ? new GZIPInputStream(exchange.getRequestBody())
+                    : exchange.getRequestBody();
+            byte[] inflated = body.readAllBytes();
+            exchange.sendResponseHeaders(200, inflated.length);
+            exchange.getResponseBody().write(inflated);
+            exchange.close();
+        });
+        server.start();
+        client = Feign.builder()
+                .client(new ApacheHttp5Client())
+                .requestInterceptor(new FeignClientConfig().gzipRequestInterceptor(2048))
+                .target(EchoClient.class, "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testLargeJsonBodyIsSentGzipped() {
+        String body = "[" + "1234567890,".repeat(400) + "0]";
+
+        assertEquals(body, client.echo(body));
+        assertEquals("gzip", receivedEncoding);
+    }
+
+    @Test
+    void testSmallBodyIsSentPlain() {
+        String body = "[1,2,3]";
+
+        assertEquals(body, client.echo(body));
+        assertNull(receivedEncoding);
+    }
+}
@@ -0,0 +1,165 @@
+package config;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.JavaPE.config.GzipRequestFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GzipRequestFilterTest {
+
+    private final GzipRequestFilter filter = new GzipRequestFilter("1KB");
+
+    @Test
+    void testGzipBodyIsInflated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(gzip("{\"title\":\"Title\"}"));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertEquals("{\"title\":\"Title\"}",
+                new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        assertNull(forwarded.getHeader("Content-Encoding"));
+        assertEquals(-1, forwarded.getContentLength());
+    }
+
+    @Test
+    void testGzipBodyCanBeReadAsynchronously() throws Exception {
+        ServletInputStream body = inflatedBody("{\"title\":\"Title\"}");
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+
+        body.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("onDataAvailable");
+                while (body.isReady() && !body.isFinished()) {
+                    read.write(body.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("onAllDataRead");
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                calls.add("onError");
+            }
+        });
+
+        assertEquals("{\"title\":\"Title\"}", read.toString(StandardCharsets.UTF_8));
+        assertEquals(List.of("onDataAvailable", "onAllDataRead"), calls);
+    }
+
+    @Test
+    void testAsynchronousReadFailureIsReported() throws Exception {
+        ServletInputStream body = inflatedBody("{}");
+        IOException failure = new IOException("listener failed");
+        List<Throwable> errors = new ArrayList<>();
+
+        body.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public void onAllDataRead() {
+                fail("onAllDataRead after a failure");
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                errors.add(error);
+            }
+        });
+
+        assertEquals(List.of(failure), errors);
+    }
+
+    @Test
+    void testPlainBodyIsPassedThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.setContent("plain".getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(request, chain.getRequest());
+    }
+
+    @Test
+    void testBodyInflatingBeyondLimitIsRejected() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(gzip("0".repeat(1025)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void testBodyAtLimitIsInflated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(gzip("0".repeat(1024)));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertEquals(1024, forwarded.getInputStream().readAllBytes().length);
+    }
+
+    @Test
+    void testMalformedGzipIsRejected() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent("not gzip".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(400, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    private ServletInputStream inflatedBody(String content) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(gzip(content));
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain.getRequest().getInputStream();
+    }
+
+    private static byte[] gzip(String body) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
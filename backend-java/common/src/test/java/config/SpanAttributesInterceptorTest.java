@@ -0,0 +1,77 @@
+package config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.JavaPE.config.SpanAttributes;
+import org.JavaPE.config.SpanAttributesInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpanAttributesInterceptorTest {
+
+    private ObservationRegistry observationRegistry;
+    private SpanAttributes spanAttributes;
+
+    @BeforeEach
+    void setUp() {
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(context -> true);
+        spanAttributes = new SpanAttributes(observationRegistry);
+    }
+
+    @Test
+    void testIdsFromPathAndQueryAreAddedToTheRequestSpan() {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/reviews/4/approve");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("reviewId", "4"));
+        request.setParameter("postId", "9");
+
+        Observation.Context context = handle(new SpanAttributesInterceptor(spanAttributes, ""), request);
+
+        assertEquals("4", value(context, SpanAttributes.REVIEW_ID));
+        assertEquals("9", value(context, SpanAttributes.POST_ID));
+        // Ids are per request, so they must never become metric tags
+        assertTrue(context.getLowCardinalityKeyValues().stream().noneMatch(keyValue -> keyValue.getKey().endsWith(".id")));
+    }
+
+    @Test
+    void testPlainIdIsOnlyTaggedWhereItIsMapped() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/7");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "7"));
+
+        assertNull(value(handle(new SpanAttributesInterceptor(spanAttributes, ""), request), SpanAttributes.POST_ID));
+        assertEquals("7", value(handle(new SpanAttributesInterceptor(spanAttributes, SpanAttributes.POST_ID), request),
+                SpanAttributes.POST_ID));
+    }
+
+    @Test
+    void testNothingHappensOutsideAnObservation() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/7");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("postId", "7"));
+
+        assertTrue(new SpanAttributesInterceptor(spanAttributes, "")
+                .preHandle(request, new MockHttpServletResponse(), new Object()));
+    }
+
+    private Observation.Context handle(SpanAttributesInterceptor interceptor, MockHttpServletRequest request) {
+        Observation observation = Observation.start("http.server.requests", observationRegistry);
+        try (Observation.Scope ignored = observation.openScope()) {
+            assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        } finally {
+            observation.stop();
+        }
+        return observation.getContext();
+    }
+
+    private static String value(Observation.Context context, String key) {
+        KeyValue keyValue = context.getHighCardinalityKeyValue(key);
+        return keyValue == null ? null : keyValue.getValue();
+    }
+}
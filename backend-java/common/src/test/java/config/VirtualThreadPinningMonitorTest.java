@@ -0,0 +1,41 @@
+package config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.JavaPE.config.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+
+    @Test
+    void testBlockingInsideSynchronizedIsReportedAsPinned() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(meterRegistry, "1ms");
+        try {
+            // The JFR stream starts asynchronously and flushes about once a second, so keep pinning until it is seen
+            long deadline = System.currentTimeMillis() + 15_000;
+            while (meterRegistry.get("jvm.threads.virtual.pinned").timer().count() == 0
+                    && System.currentTimeMillis() < deadline) {
+                Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+                Thread.sleep(100);
+            }
+
+            assertTrue(meterRegistry.get("jvm.threads.virtual.pinned").timer().count() > 0);
+        } finally {
+            pinningMonitor.destroy();
+        }
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
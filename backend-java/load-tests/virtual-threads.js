@@ -0,0 +1,54 @@
+// Blocking-I/O load against the servlet services, for comparing platform and virtual threads.
+// Run it once per mode against the same data set and compare the summaries:
+//   SPRING_THREADS_VIRTUAL_ENABLED=false|true  (environment of post, review and comment service)
+//   k6 run -e VUS=800 load-tests/virtual-threads.js   (VUS is per scenario)
+// Watch jvm.threads.live, hikaricp.connections.pending and jvm.threads.virtual.pinned alongside.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const POST_URL = __ENV.POST_URL || 'http://localhost:8084';
+const REVIEW_URL = __ENV.REVIEW_URL || 'http://localhost:8085';
+const COMMENT_URL = __ENV.COMMENT_URL || 'http://localhost:8082';
+const VUS = parseInt(__ENV.VUS || '800');
+const POST_ID = __ENV.POST_ID || '1';
+
+function rampTo(exec) {
+    return {
+        executor: 'ramping-vus',
+        exec,
+        startVUs: 0,
+        stages: [
+            { duration: '30s', target: VUS },
+            { duration: '2m', target: VUS },
+            { duration: '15s', target: 0 },
+        ],
+    };
+}
+
+export const options = {
+    scenarios: {
+        // JDBC only
+        feed: rampTo('feed'),
+        comments: rampTo('comments'),
+        // JDBC plus a Feign batch call to post-service per request
+        reviews: rampTo('reviews'),
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function feed() {
+    const res = http.get(`${POST_URL}/posts/published/feed?size=20`, { headers: { 'X-User-Role': 'user' } });
+    check(res, { 'feed 200': r => r.status === 200 });
+}
+
+export function comments() {
+    const res = http.get(`${COMMENT_URL}/comments/post/${POST_ID}/page?size=20`);
+    check(res, { 'comments 200': r => r.status === 200 });
+}
+
+export function reviews() {
+    const res = http.get(`${REVIEW_URL}/reviews`, { headers: { 'X-User-Role': 'editor' } });
+    check(res, { 'reviews 200': r => r.status === 200 });
+}
@@ -0,0 +1,33 @@
+package org.JavaPE.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PUBLISHED_POSTS = "publishedPosts";
+
+    // Bounded by size and TTL; stats feed the cache.gets/cache.evictions metrics.
+    // PostServiceImpl evicts inside its transaction; the proxy holds evictions and puts until
+    // commit, so a reader cannot re-cache the old row between the evict and the commit
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${posts.cache.published.max-size:10000}") long maxSize,
+            @Value("${posts.cache.published.ttl:10m}") String ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PUBLISHED_POSTS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(DurationStyle.detectAndParse(ttl))
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,18 @@
+package org.JavaPE.config;
+
+import org.JavaPE.events.PostEvents;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class PostEventsConfig {
+
+    // Declare the exchange the outbox relay publishes post events to
+    @Bean
+    public TopicExchange postExchange() {
+        return new TopicExchange(PostEvents.EXCHANGE);
+    }
+}
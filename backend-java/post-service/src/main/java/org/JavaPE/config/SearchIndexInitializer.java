@@ -0,0 +1,52 @@
+package org.JavaPE.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA cannot declare FULLTEXT indexes, so the one backing post search is created here
+ * once the schema exists. MySQL has no CREATE INDEX IF NOT EXISTS, hence the lookup first.
+ */
+@Component
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    public static final String FULLTEXT_INDEX = "ft_post_title_content";
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Integer tables = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.tables " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'post'", Integer.class);
+            if (tables == null || tables == 0) {
+                return;
+            }
+
+            Integer indexes = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+                    Integer.class, FULLTEXT_INDEX);
+            if (indexes != null && indexes > 0) {
+                return;
+            }
+
+            logger.info("Creating full-text index {} on post(title, content)", FULLTEXT_INDEX);
+            jdbcTemplate.execute("CREATE FULLTEXT INDEX " + FULLTEXT_INDEX + " ON post (title, content)");
+        } catch (DataAccessException e) {
+            logger.warn("Could not ensure full-text index {}: {}", FULLTEXT_INDEX, e.getMessage());
+        }
+    }
+}
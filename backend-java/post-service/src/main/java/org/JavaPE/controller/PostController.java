@@ -1,18 +1,28 @@
 package org.JavaPE.controller;
 
 import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.controller.dto.PostPageDTO;
+import org.JavaPE.controller.dto.PostSummaryDTO;
 import org.JavaPE.domain.PostStatus;
+import org.JavaPE.exception.PostVersionConflictException;
 import org.JavaPE.services.PostService;
+import org.JavaPE.services.PostValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/posts")
@@ -23,6 +33,15 @@ public class PostController {
     @Autowired
     private PostService postService;
 
+    @Value("${posts.feed.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${posts.feed.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${posts.batch.max-ids:200}")
+    private int maxBatchIds;
+
     @PostMapping
     public ResponseEntity<PostDTO> createPost(
             @RequestHeader(value = "X-User-Role", required = false) String role,
@@ -42,22 +61,44 @@ public class PostController {
     @PutMapping("/{id}")
     public ResponseEntity<PostDTO> updatePost(
             @RequestHeader(value = "X-User-Role", required = false) String role,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @PathVariable Long id,
             @RequestBody PostDTO postDTO) {
         if (!"editor".equals(role)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        // Just update fields (no “new vs updated” logic):
-        PostDTO updatedPost = postService.editPost(id, postDTO);
+        boolean conditional = ifMatch != null && !ifMatch.isBlank() && !"*".equals(ifMatch.trim());
+        if (conditional) {
+            Long expectedVersion = PostValidator.versionOf(ifMatch, id);
+            if (expectedVersion == null) {
+                logger.warn("Rejected update of post with ID: {}. Unusable If-Match: {}", id, ifMatch);
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            postDTO.setVersion(expectedVersion);
+        }
 
-        return ResponseEntity.ok(updatedPost);
+        try {
+            // Just update fields (no “new vs updated” logic):
+            PostDTO updatedPost = postService.editPost(id, postDTO);
+            return ResponseEntity.ok()
+                    .eTag(etagOf(updatedPost))
+                    .body(updatedPost);
+        } catch (PostVersionConflictException | ObjectOptimisticLockingFailureException e) {
+            // Hand back the current state so the editor can merge and retry against its version
+            logger.warn("Version conflict updating post with ID: {}. {}", id, e.getMessage());
+            PostDTO current = postService.getPostById(id);
+            return ResponseEntity.status(conditional ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT)
+                    .eTag(etagOf(current))
+                    .body(current);
+        }
     }
 
 
     @GetMapping("/published")
     public ResponseEntity<List<PostDTO>> getPublishedPosts(
-            @RequestHeader(value = "X-User-Role", required = false) String role) {
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            WebRequest request) {
         logger.info("Received request to fetch published posts with role: {}", role);
 
         if (role == null || role.isBlank()) {
@@ -65,14 +106,52 @@ public class PostController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
         }
 
-        List<PostDTO> publishedPosts = postService.getPublishedPosts();
-        logger.info("Successfully fetched {} published posts", publishedPosts.size());
-        return ResponseEntity.ok(publishedPosts);
+        return conditional(request, postService.getPostsETag(PostStatus.PUBLISHED), null, () -> {
+            List<PostDTO> publishedPosts = postService.getPublishedPosts();
+            logger.info("Successfully fetched {} published posts", publishedPosts.size());
+            return publishedPosts;
+        });
+    }
+
+    @GetMapping("/published/summaries")
+    public ResponseEntity<List<PostSummaryDTO>> getPublishedPostSummaries(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            WebRequest request) {
+        logger.info("Received request to fetch published post summaries with role: {}", role);
+
+        if (role == null || role.isBlank()) {
+            logger.warn("Unauthorized attempt to fetch published post summaries. Role is missing.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+
+        return conditional(request, postService.getPostsETag(PostStatus.PUBLISHED), null, () -> {
+            List<PostSummaryDTO> summaries = postService.getPublishedPostSummaries();
+            logger.info("Successfully fetched {} published post summaries", summaries.size());
+            return summaries;
+        });
+    }
+
+    @GetMapping("/published/feed")
+    public ResponseEntity<PostPageDTO> getPublishedPostsPage(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        logger.info("Received request to fetch published feed page with role: {}", role);
+
+        if (role == null || role.isBlank()) {
+            logger.warn("Unauthorized attempt to fetch published feed. Role is missing.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+
+        PostPageDTO page = postService.getPublishedPostsPage(cursor, pageSize(size));
+        logger.info("Successfully fetched {} published posts for feed page", page.getPosts().size());
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping("/drafts")
     public ResponseEntity<List<PostDTO>> getDraftPosts(
-            @RequestHeader(value = "X-User-Role", required = false) String role) {
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            WebRequest request) {
         logger.info("Received request to fetch draft posts with role: {}", role);
 
         if (role == null || role.isBlank()) {
@@ -80,9 +159,29 @@ public class PostController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
         }
 
-        List<PostDTO> draftPosts = postService.getDraftPosts();
-        logger.info("Successfully fetched {} draft posts", draftPosts.size());
-        return ResponseEntity.ok(draftPosts);
+        return conditional(request, postService.getPostsETag(PostStatus.DRAFT), null, () -> {
+            List<PostDTO> draftPosts = postService.getDraftPosts();
+            logger.info("Successfully fetched {} draft posts", draftPosts.size());
+            return draftPosts;
+        });
+    }
+
+    @GetMapping("/drafts/summaries")
+    public ResponseEntity<List<PostSummaryDTO>> getDraftPostSummaries(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            WebRequest request) {
+        logger.info("Received request to fetch draft post summaries with role: {}", role);
+
+        if (role == null || role.isBlank()) {
+            logger.warn("Unauthorized attempt to fetch draft post summaries. Role is missing.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+
+        return conditional(request, postService.getPostsETag(PostStatus.DRAFT), null, () -> {
+            List<PostSummaryDTO> summaries = postService.getDraftPostSummaries();
+            logger.info("Successfully fetched {} draft post summaries", summaries.size());
+            return summaries;
+        });
     }
 
     @GetMapping("/filtered")
@@ -107,10 +206,50 @@ public class PostController {
         return ResponseEntity.ok(filteredPosts);
     }
 
+    @GetMapping("/filtered/summaries")
+    public ResponseEntity<List<PostSummaryDTO>> getFilteredPostSummaries(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lastModifiedDate) {
+        logger.info("Received request to fetch filtered post summaries with role: {}", role);
+
+        if (!"editor".equals(role)) {
+            logger.warn("Unauthorized attempt to fetch filtered post summaries. Role: {}", role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        List<PostSummaryDTO> summaries = postService.getPostSummariesFiltered(title, author, createdDate, lastModifiedDate);
+        logger.info("Successfully fetched {} filtered post summaries", summaries.size());
+        return ResponseEntity.ok(summaries);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PostSummaryDTO>> searchPosts(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @RequestParam String query,
+            @RequestParam(required = false) String author,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        logger.info("Received request to search posts with role: {}", role);
+
+        if (!"editor".equals(role)) {
+            logger.warn("Unauthorized attempt to search posts. Role: {}", role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        List<PostSummaryDTO> results = postService.searchPosts(query, author, Math.max(0, page), pageSize(size));
+        logger.info("Search for '{}' returned {} posts", query, results.size());
+        return ResponseEntity.ok(results);
+    }
+
     @GetMapping("/published/{id}")
-    public ResponseEntity<PostDTO> getPublishedPostById(@PathVariable Long id) {
+    public ResponseEntity<PostDTO> getPublishedPostById(@PathVariable Long id, WebRequest request) {
         logger.info("Received request to fetch published post with ID: {}", id);
 
+        // Served from the published-posts cache, so the validators come from the cached DTO
+        // rather than from a query of their own
         PostDTO postDTO = postService.getPublishedPostById(id);
         if (postDTO == null) {
             logger.warn("Published post with ID: {} not found", id);
@@ -118,13 +257,14 @@ public class PostController {
         }
 
         logger.info("Successfully fetched published post with ID: {}", id);
-        return ResponseEntity.ok(postDTO);
+        return conditional(request, etagOf(postDTO), postDTO.getLastModifiedDate(), () -> postDTO);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PostDTO> getPostById(
             @RequestHeader(value = "X-User-Role", required = false) String role,
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest request) {
         logger.info("Received request to fetch post with ID: {} and role: {}", id, role);
 
         if (role == null || role.isBlank()) {
@@ -134,7 +274,32 @@ public class PostController {
 
         PostDTO post = postService.getPostById(id);
         logger.info("Successfully fetched post with ID: {}", id);
-        return ResponseEntity.ok(post);
+        return conditional(request, etagOf(post), post.getLastModifiedDate(), () -> post);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<PostDTO>> getPostsByIds(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @RequestBody(required = false) List<Long> ids) {
+        if (role == null || role.isBlank()) {
+            logger.warn("Unauthorized attempt to fetch posts in batch. Role is missing.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+
+        if (ids == null || ids.contains(null)) {
+            logger.warn("Rejected batch post lookup without a list of post ids");
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (ids.size() > maxBatchIds) {
+            logger.warn("Rejected batch post lookup for {} posts. Limit is {}", ids.size(), maxBatchIds);
+            return ResponseEntity.badRequest().build();
+        }
+
+        logger.info("Received request to fetch {} posts in batch with role: {}", ids.size(), role);
+        List<PostDTO> posts = postService.getPostsByIds(ids);
+        logger.info("Successfully fetched {} posts in batch", posts.size());
+        return ResponseEntity.ok(posts);
     }
 
     @PostMapping("/{id}/publish")
@@ -155,9 +320,37 @@ public class PostController {
         } catch (org.JavaPE.exception.PostNotFoundException e) {
             logger.error("Post with ID: {} not found. Cannot publish.", id);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            logger.warn("Post with ID: {} was modified concurrently. Cannot publish.", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             logger.error("Error occurred while publishing post with ID: {}. Error: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    // If-None-Match is answered from the validator alone, so a 304 never builds or serializes the body
+    private <T> ResponseEntity<T> conditional(WebRequest request, String etag, LocalDate lastModified, Supplier<T> body) {
+        if (etag != null && request.checkNotModified(etag)) {
+            logger.debug("Resource unchanged for ETag {}, answering 304", etag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        if (lastModified != null) {
+            response.lastModified(lastModified.atStartOfDay(ZoneOffset.UTC).toInstant());
+        }
+        return response.body(body.get());
+    }
+
+    private static String etagOf(PostDTO post) {
+        return post.getVersion() != null ? PostValidator.etagOf(post.getId(), post.getVersion()) : null;
+    }
+
+    private int pageSize(Integer requested) {
+        return requested == null ? defaultPageSize : Math.max(1, Math.min(requested, maxPageSize));
+    }
 }
\ No newline at end of file
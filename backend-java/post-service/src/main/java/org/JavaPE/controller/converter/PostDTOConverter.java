@@ -19,6 +19,8 @@ public class PostDTOConverter {
         postDTO.setLastModifiedDate(post.getLastModifiedDate());
         postDTO.setStatus(post.getStatus() != null ? post.getStatus().name() : null);
         postDTO.setRemarks(post.getRemarks());
+        postDTO.setContentHash(post.getContentHash());
+        postDTO.setVersion(post.getVersion());
         return postDTO;
     }
 
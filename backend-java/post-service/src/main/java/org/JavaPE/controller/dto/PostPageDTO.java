@@ -0,0 +1,18 @@
+package org.JavaPE.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostPageDTO {
+    private List<PostSummaryDTO> posts;
+    // Opaque continuation token, null when this is the last page
+    private String nextCursor;
+}
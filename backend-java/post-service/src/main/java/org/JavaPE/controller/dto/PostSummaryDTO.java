@@ -0,0 +1,35 @@
+package org.JavaPE.controller.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.JavaPE.domain.PostStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Listing view of a post. Built directly by JPQL constructor expressions so list queries never read the content column.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostSummaryDTO {
+    private Long id;
+    private String title;
+    private String author;
+    private LocalDate createdDate;
+    private LocalDate lastModifiedDate;
+    private String status;
+    private String excerpt;
+
+    public PostSummaryDTO(Long id, String title, String author, LocalDate createdDate,
+                          LocalDate lastModifiedDate, PostStatus status, String excerpt) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createdDate = createdDate;
+        this.lastModifiedDate = lastModifiedDate;
+        this.status = status != null ? status.name() : null;
+        this.excerpt = excerpt;
+    }
+}
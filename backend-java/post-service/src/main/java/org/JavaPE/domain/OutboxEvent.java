@@ -0,0 +1,42 @@
+package org.JavaPE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_published_id", columnList = "published_at, id")
+})
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    // Also used as the RabbitMQ routing key
+    @Column(nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Null until the relay has handed the event to RabbitMQ
+    private LocalDateTime publishedAt;
+
+    // Trace propagation headers of the request that wrote the event, as JSON; null outside a trace
+    @Column(length = 512)
+    private String traceContext;
+}
@@ -3,7 +3,11 @@ package org.JavaPE.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.util.HexFormat;
 
 @Entity
 @Data
@@ -12,7 +16,11 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @Builder
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_status_modified_id", columnList = "status, last_modified_date, id"),
+        @Index(name = "idx_post_author", columnList = "author"),
+        @Index(name = "idx_post_author_content_hash", columnList = "author, content_hash")
+})
 public class Post {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,4 +36,71 @@ public class Post {
     @Enumerated(EnumType.STRING)
     private PostStatus status;
     private String remarks;
+
+    @Column(length = EXCERPT_LENGTH + 1)
+    private String excerpt;
+
+    // SHA-256 of title and content, hex encoded
+    @Column(length = 64)
+    private String contentHash;
+
+    // Optimistic lock: a write based on a stale read fails instead of overwriting a concurrent one
+    @Version
+    private long version;
+
+    public static final int EXCERPT_LENGTH = 200;
+
+    // Author-controlled fields only; derived columns are maintained by the entity itself
+    public Post(Long id, String title, String content, String author, LocalDate createdDate,
+                LocalDate lastModifiedDate, PostStatus status, String remarks) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+        this.createdDate = createdDate;
+        this.lastModifiedDate = lastModifiedDate;
+        this.status = status;
+        this.remarks = remarks;
+    }
+
+    // Keep the derived columns in sync so listings and change detection never need to read content
+    @PrePersist
+    @PreUpdate
+    void updateDerivedColumns() {
+        excerpt = excerptOf(content);
+        contentHash = contentHashOf(title, content);
+    }
+
+    // Hash of the persisted title and content; computed on the fly for rows written before the column existed
+    public String currentContentHash() {
+        return contentHash != null ? contentHash : contentHashOf(title, content);
+    }
+
+    public static String contentHashOf(String title, String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (title != null) {
+                digest.update(title.getBytes(StandardCharsets.UTF_8));
+            }
+            // Separator keeps ("ab", "c") and ("a", "bc") apart
+            digest.update((byte) 0);
+            if (content != null) {
+                digest.update(content.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String collapsed = content.strip().replaceAll("\\s+", " ");
+        if (collapsed.length() <= EXCERPT_LENGTH) {
+            return collapsed;
+        }
+        return collapsed.substring(0, EXCERPT_LENGTH).stripTrailing() + "\u2026";
+    }
 }
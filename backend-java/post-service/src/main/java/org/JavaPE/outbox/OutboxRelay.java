@@ -0,0 +1,92 @@
+package org.JavaPE.outbox;
+
+import jakarta.transaction.Transactional;
+import org.JavaPE.domain.OutboxEvent;
+import org.JavaPE.events.PostEvents;
+import org.JavaPE.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves committed outbox events to RabbitMQ in batches. A batch is marked published only
+ * after the broker has confirmed every message in it, so delivery is at-least-once.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final OutboxTracing outboxTracing;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs = 5000;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours = 24;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, RabbitTemplate rabbitTemplate,
+                       OutboxTracing outboxTracing) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.outboxTracing = outboxTracing;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    @Transactional
+    public void relayPendingEvents() {
+        List<OutboxEvent> batch = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxEvent event : batch) {
+                // Each publish joins the trace of the request that wrote the event
+                outboxTracing.relay(event, () ->
+                        operations.send(PostEvents.EXCHANGE, event.getEventType(), toMessage(event)));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        batch.forEach(event -> event.setPublishedAt(publishedAt));
+        outboxEventRepository.saveAll(batch);
+        logger.debug("Relayed {} outbox events", batch.size());
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge.interval-ms:3600000}")
+    @Transactional
+    public void purgePublishedEvents() {
+        int purged = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0) {
+            logger.info("Purged {} published outbox events", purged);
+        }
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(String.valueOf(event.getId()))
+                .setHeader("eventType", event.getEventType())
+                .build();
+    }
+}
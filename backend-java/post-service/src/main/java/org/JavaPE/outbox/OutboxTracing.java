@@ -0,0 +1,107 @@
+package org.JavaPE.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.JavaPE.config.SpanAttributes;
+import org.JavaPE.domain.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Carries the trace of the request that wrote an outbox event over to the relay that publishes
+ * it. Without this the Rabbit publish would start a trace of its own on the relay's scheduler
+ * thread, and submit → review or approve → publish could not be followed end to end.
+ * The writer stores the propagation headers with the event; the relay publishes each event
+ * inside an "outbox.relay" observation whose parent is extracted from them.
+ */
+@Component
+public class OutboxTracing {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxTracing.class);
+    private static final TypeReference<Map<String, String>> HEADERS = new TypeReference<>() {
+    };
+
+    private final ObservationRegistry observationRegistry;
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final ObjectMapper objectMapper;
+
+    // Tracer and Propagator are absent when management.tracing.enabled=false
+    @Autowired
+    public OutboxTracing(ObjectProvider<ObservationRegistry> observationRegistry,
+                         ObjectProvider<Tracer> tracer,
+                         ObjectProvider<Propagator> propagator,
+                         ObjectMapper objectMapper) {
+        this(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                tracer.getIfAvailable(() -> Tracer.NOOP),
+                propagator.getIfAvailable(() -> Propagator.NOOP),
+                objectMapper);
+    }
+
+    public OutboxTracing(ObservationRegistry observationRegistry, Tracer tracer, Propagator propagator,
+                         ObjectMapper objectMapper) {
+        this.observationRegistry = observationRegistry;
+        this.tracer = tracer;
+        this.propagator = propagator;
+        this.objectMapper = objectMapper;
+    }
+
+    // Propagation headers of the current span as JSON, or null outside a trace
+    public String captureContext() {
+        Span current = tracer.currentSpan();
+        if (current == null) {
+            return null;
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        propagator.inject(current.context(), headers, Map::put);
+        if (headers.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            logger.debug("Could not serialize trace context", e);
+            return null;
+        }
+    }
+
+    public void relay(OutboxEvent event, Runnable publish) {
+        Observation.createNotStarted("outbox.relay", () -> receiverContext(event.getTraceContext()), observationRegistry)
+                .contextualName("outbox relay " + event.getEventType())
+                .lowCardinalityKeyValue("event.type", event.getEventType())
+                .highCardinalityKeyValue(SpanAttributes.POST_ID, String.valueOf(event.getAggregateId()))
+                .observe(publish);
+    }
+
+    private ReceiverContext<Map<String, String>> receiverContext(String traceContext) {
+        ReceiverContext<Map<String, String>> context = new ReceiverContext<>(Map::get);
+        context.setCarrier(readHeaders(traceContext));
+        context.setRemoteServiceName("outbox");
+        return context;
+    }
+
+    private Map<String, String> readHeaders(String traceContext) {
+        if (traceContext == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(traceContext, HEADERS);
+        } catch (JsonProcessingException e) {
+            logger.debug("Ignoring unreadable trace context {}", traceContext, e);
+            return Map.of();
+        }
+    }
+}
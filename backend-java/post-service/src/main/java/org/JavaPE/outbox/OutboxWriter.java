@@ -0,0 +1,60 @@
+package org.JavaPE.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.JavaPE.domain.OutboxEvent;
+import org.JavaPE.events.PostEvents;
+import org.JavaPE.events.PostPublicationEvent;
+import org.JavaPE.events.PostSubmittedForReviewEvent;
+import org.JavaPE.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records integration events in the outbox table. Callers must already be inside the
+ * transaction that changes the post, so the event is stored if and only if that change commits.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxTracing outboxTracing;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                        OutboxTracing outboxTracing) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.outboxTracing = outboxTracing;
+    }
+
+    public void postSubmittedForReview(Long postId, String author) {
+        write(postId, PostEvents.POST_SUBMITTED_FOR_REVIEW, new PostSubmittedForReviewEvent(postId, author));
+    }
+
+    public void postPublished(Long postId) {
+        write(postId, PostEvents.POST_PUBLISHED, new PostPublicationEvent(postId));
+    }
+
+    public void postUnpublished(Long postId) {
+        write(postId, PostEvents.POST_UNPUBLISHED, new PostPublicationEvent(postId));
+    }
+
+    private void write(Long aggregateId, String eventType, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " event for " + aggregateId, e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .traceContext(outboxTracing.captureContext())
+                .build());
+    }
+}
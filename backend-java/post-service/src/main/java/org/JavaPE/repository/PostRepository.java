@@ -1,7 +1,10 @@
 package org.JavaPE.repository;
 
+import org.JavaPE.controller.dto.PostSummaryDTO;
 import org.JavaPE.domain.Post;
 import org.JavaPE.domain.PostStatus;
+import org.JavaPE.services.PostValidator;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,11 +12,42 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+    // Listing projection: every column except content
+    String SUMMARY_SELECT = "SELECT new org.JavaPE.controller.dto.PostSummaryDTO(" +
+            "p.id, p.title, p.author, p.createdDate, p.lastModifiedDate, p.status, p.excerpt) FROM Post p ";
+    // Conditional GET projection: just what an ETag/Last-Modified needs
+    String VALIDATOR_SELECT = "SELECT new org.JavaPE.services.PostValidator(" +
+            "p.id, p.version, p.lastModifiedDate, p.status) FROM Post p ";
+
     @Query("SELECT p FROM Post p WHERE p.status = :status")
     List<Post> findByStatus(@Param("status") PostStatus status);
 
+    Optional<Post> findFirstByAuthorAndContentHashAndStatus(String author, String contentHash, PostStatus status);
+
+    @Query(VALIDATOR_SELECT + "WHERE p.status = :status ORDER BY p.id")
+    List<PostValidator> findValidatorsByStatus(@Param("status") PostStatus status);
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status")
+    List<PostSummaryDTO> findSummariesByStatus(@Param("status") PostStatus status);
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status " +
+            "ORDER BY p.lastModifiedDate DESC, p.id DESC")
+    List<PostSummaryDTO> findFirstPageByStatus(@Param("status") PostStatus status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status AND " +
+            "(p.lastModifiedDate < :lastModifiedDate OR " +
+            "(p.lastModifiedDate = :lastModifiedDate AND p.id < :id)) " +
+            "ORDER BY p.lastModifiedDate DESC, p.id DESC")
+    List<PostSummaryDTO> findPageByStatusAfter(
+            @Param("status") PostStatus status,
+            @Param("lastModifiedDate") LocalDate lastModifiedDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     @Query("SELECT p FROM Post p WHERE " +
             "(:title IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
             "(:author IS NULL OR LOWER(p.author) LIKE LOWER(CONCAT('%', :author, '%'))) AND " +
@@ -26,4 +60,26 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("endDate") LocalDate endDate
     );
 
-}
\ No newline at end of file
+    @Query(SUMMARY_SELECT + "WHERE " +
+            "(:title IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:author IS NULL OR LOWER(p.author) LIKE LOWER(CONCAT('%', :author, '%'))) AND " +
+            "(:startDate IS NULL OR p.createdDate >= :startDate) AND " +
+            "(:endDate IS NULL OR p.createdDate <= :endDate)")
+    List<PostSummaryDTO> findPostSummariesByFilters(
+            @Param("title") String title,
+            @Param("author") String author,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // Relevance-ranked ids from the ft_post_title_content FULLTEXT index
+    @Query(value = "SELECT p.id FROM post p " +
+            "WHERE MATCH(p.title, p.content) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+            "AND (:author IS NULL OR p.author LIKE CONCAT(:author, '%')) " +
+            "ORDER BY MATCH(p.title, p.content) AGAINST (:query IN NATURAL LANGUAGE MODE) DESC, p.id DESC",
+            nativeQuery = true)
+    List<Long> searchIds(@Param("query") String query, @Param("author") String author, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryDTO> findSummariesByIdIn(@Param("ids") List<Long> ids);
+}
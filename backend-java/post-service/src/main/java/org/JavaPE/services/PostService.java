@@ -1,7 +1,10 @@
 package org.JavaPE.services;
 
 import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.controller.dto.PostPageDTO;
+import org.JavaPE.controller.dto.PostSummaryDTO;
 import org.JavaPE.domain.Post;
+import org.JavaPE.domain.PostStatus;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,10 +13,16 @@ public interface PostService {
     PostDTO createOrUpdateDraft(PostDTO postDTO);
     PostDTO editPost(Long id, PostDTO postDTO);
     List<PostDTO> getPublishedPosts();
+    PostPageDTO getPublishedPostsPage(String cursor, int size);
     List<PostDTO> getDraftPosts();
     List<PostDTO> getPostsFiltered(String content, String author, LocalDate createdDate, LocalDate lastModifiedDate);
+    List<PostSummaryDTO> getPublishedPostSummaries();
+    List<PostSummaryDTO> getDraftPostSummaries();
+    List<PostSummaryDTO> getPostSummariesFiltered(String title, String author, LocalDate createdDate, LocalDate lastModifiedDate);
+    List<PostSummaryDTO> searchPosts(String query, String author, int page, int size);
     PostDTO getPostById(Long id);
+    List<PostDTO> getPostsByIds(List<Long> ids);
     void publishPost(Long id);
-    void sendForReview(PostDTO updatedPost);
     PostDTO getPublishedPostById(Long id);
+    String getPostsETag(PostStatus status);
 }
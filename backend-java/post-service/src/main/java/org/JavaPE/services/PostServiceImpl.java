@@ -1,19 +1,28 @@
 package org.JavaPE.services;
 
 import jakarta.transaction.Transactional;
-import org.JavaPE.client.ReviewClient;
-import org.JavaPE.controller.Request.ReviewRequest;
+import org.JavaPE.config.CacheConfig;
 import org.JavaPE.controller.converter.PostDTOConverter;
 import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.controller.dto.PostPageDTO;
+import org.JavaPE.controller.dto.PostSummaryDTO;
 import org.JavaPE.domain.Post;
 import org.JavaPE.domain.PostStatus;
 import org.JavaPE.exception.PostNotFoundException;
+import org.JavaPE.exception.PostVersionConflictException;
+import org.JavaPE.outbox.OutboxWriter;
 import org.JavaPE.repository.PostRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,64 +31,66 @@ public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
     private final PostDTOConverter postDTOConverter;
-    private final ReviewClient reviewClient;
+    private final OutboxWriter outboxWriter;
 
-    public PostServiceImpl(PostRepository postRepository, PostDTOConverter postDTOConverter, ReviewClient reviewClient) {
+    public PostServiceImpl(PostRepository postRepository, PostDTOConverter postDTOConverter, OutboxWriter outboxWriter) {
         this.postRepository = postRepository;
         this.postDTOConverter = postDTOConverter;
-        this.reviewClient = reviewClient;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PUBLISHED_POSTS, key = "#postDTO.id", condition = "#postDTO.id != null")
     public PostDTO createOrUpdateDraft(PostDTO postDTO) {
-        Post post = postDTOConverter.convertToEntity(postDTO);
-        boolean isNewPost = (post.getId() == null);
+        // One read, one write: decide whether title/content changed before the entity is modified
+        String newHash = Post.contentHashOf(postDTO.getTitle(), postDTO.getContent());
+        Post post = postDTO.getId() != null
+                ? postRepository.findById(postDTO.getId()).orElse(null)
+                : null;
+
+        if (post == null && postDTO.getAuthor() != null) {
+            // A resubmitted identical draft (double submit, retried autosave) maps onto the existing one
+            Optional<Post> duplicate = postRepository.findFirstByAuthorAndContentHashAndStatus(
+                    postDTO.getAuthor(), newHash, PostStatus.DRAFT);
+            if (duplicate.isPresent()) {
+                return postDTOConverter.convertToDTO(duplicate.get());
+            }
+        }
 
-        post.setStatus(PostStatus.DRAFT);
-        post.setLastModifiedDate(LocalDate.now());
+        boolean isNewPost = (post == null);
+        boolean wasPublished = !isNewPost && post.getStatus() == PostStatus.PUBLISHED;
+        boolean needsReview;
 
         if (isNewPost) {
+            post = postDTOConverter.convertToEntity(postDTO);
             post.setCreatedDate(LocalDate.now());
+            needsReview = true;
+        } else {
+            checkVersion(post, postDTO.getVersion());
+            needsReview = !newHash.equals(post.currentContentHash());
+            post.setTitle(postDTO.getTitle());
+            post.setContent(postDTO.getContent());
+            post.setRemarks(postDTO.getRemarks());
         }
 
+        post.setStatus(PostStatus.DRAFT);
+        post.setLastModifiedDate(LocalDate.now());
+
         Post savedPost = postRepository.save(post);
 
-        boolean needsReview = isNewPost;
-        if (!isNewPost) {
-            Optional<Post> existingPostOpt = postRepository.findById(savedPost.getId());
-            if (existingPostOpt.isPresent()) {
-                Post existingPost = existingPostOpt.get();
-                needsReview = !existingPost.getContent().equals(savedPost.getContent())
-                        || !existingPost.getTitle().equals(savedPost.getTitle());
-            } else {
-                needsReview = true;
-            }
+        if (wasPublished) {
+            // Back to draft: readers and commenters must stop seeing it
+            outboxWriter.postUnpublished(savedPost.getId());
         }
-
         if (needsReview) {
-            sendForReview(postDTOConverter.convertToDTO(savedPost));
+            outboxWriter.postSubmittedForReview(savedPost.getId(), savedPost.getAuthor());
         }
 
         return postDTOConverter.convertToDTO(savedPost);
     }
 
-    public void sendForReview(PostDTO postDTO) {
-        Post post = postRepository.findById(postDTO.getId())
-                .orElseThrow(() -> new PostNotFoundException("Post with ID " + postDTO.getId() + " not found."));
-
-        post.setTitle(postDTO.getTitle());
-        post.setContent(postDTO.getContent());
-        postRepository.save(post);
-
-        if (post.getId() != null) {
-            reviewClient.deletePendingReviewForPost(post.getId());
-        }
-
-        ReviewRequest reviewRequest = new ReviewRequest(post.getId(), post.getAuthor());
-        reviewClient.submitPostForReview(reviewRequest);
-    }
-
     @Override
+    @Cacheable(cacheNames = CacheConfig.PUBLISHED_POSTS, key = "#id")
     public PostDTO getPublishedPostById(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new PostNotFoundException("Post with ID " + id + " not found."));
@@ -92,44 +103,46 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PUBLISHED_POSTS, key = "#id")
     public PostDTO editPost(Long id, PostDTO postDTO) {
         Post existingPost = postRepository.findById(id)
                 .orElseThrow(() -> new PostNotFoundException("Post with ID " + id + " not found."));
+        checkVersion(existingPost, postDTO.getVersion());
 
-        String oldTitle = existingPost.getTitle();
-        String oldContent = existingPost.getContent();
+        String newTitle = postDTO.getTitle() != null && !postDTO.getTitle().isBlank()
+                ? postDTO.getTitle() : existingPost.getTitle();
+        String newContent = postDTO.getContent() != null && !postDTO.getContent().isBlank()
+                ? postDTO.getContent() : existingPost.getContent();
+        boolean changed = !Post.contentHashOf(newTitle, newContent).equals(existingPost.currentContentHash());
 
-        if (postDTO.getTitle() != null && !postDTO.getTitle().isBlank()) {
-            existingPost.setTitle(postDTO.getTitle());
-        }
-        if (postDTO.getContent() != null && !postDTO.getContent().isBlank()) {
-            existingPost.setContent(postDTO.getContent());
-        }
+        existingPost.setTitle(newTitle);
+        existingPost.setContent(newContent);
         existingPost.setRemarks(postDTO.getRemarks());
         existingPost.setLastModifiedDate(LocalDate.now());
 
         Post updatedPost = postRepository.save(existingPost);
 
-        if (updatedPost.getStatus() == PostStatus.DRAFT) {
-            boolean changed =
-                    !oldTitle.equals(updatedPost.getTitle())
-                            || !oldContent.equals(updatedPost.getContent());
-            if (changed) {
-                sendForReview(postDTOConverter.convertToDTO(updatedPost));
-            }
+        if (changed && updatedPost.getStatus() == PostStatus.DRAFT) {
+            outboxWriter.postSubmittedForReview(updatedPost.getId(), updatedPost.getAuthor());
         }
 
         return postDTOConverter.convertToDTO(updatedPost);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PUBLISHED_POSTS, key = "#postId")
     public void publishPost(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post with ID " + postId + " not found."));
 
+        boolean wasPublished = post.getStatus() == PostStatus.PUBLISHED;
         post.setStatus(PostStatus.PUBLISHED);
         post.setLastModifiedDate(LocalDate.now());
         postRepository.save(post);
+
+        if (!wasPublished) {
+            outboxWriter.postPublished(postId);
+        }
     }
 
     @Override
@@ -140,6 +153,29 @@ public class PostServiceImpl implements PostService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PostPageDTO getPublishedPostsPage(String cursor, int size) {
+        // Fetch one extra row to learn whether another page follows
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<PostSummaryDTO> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFirstPageByStatus(PostStatus.PUBLISHED, limit);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            posts = postRepository.findPageByStatusAfter(
+                    PostStatus.PUBLISHED, after.lastModifiedDate(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (posts.size() > size) {
+            posts = posts.subList(0, size);
+            PostSummaryDTO last = posts.get(size - 1);
+            nextCursor = new FeedCursor(last.getLastModifiedDate(), last.getId()).encode();
+        }
+
+        return new PostPageDTO(posts, nextCursor);
+    }
+
     @Override
     public List<PostDTO> getDraftPosts() {
         List<Post> draftPosts = postRepository.findByStatus(PostStatus.DRAFT);
@@ -161,10 +197,77 @@ public class PostServiceImpl implements PostService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<PostSummaryDTO> getPublishedPostSummaries() {
+        return postRepository.findSummariesByStatus(PostStatus.PUBLISHED);
+    }
+
+    @Override
+    public List<PostSummaryDTO> getDraftPostSummaries() {
+        return postRepository.findSummariesByStatus(PostStatus.DRAFT);
+    }
+
+    @Override
+    public List<PostSummaryDTO> getPostSummariesFiltered(String title, String author, LocalDate createdDate, LocalDate lastModifiedDate) {
+        return postRepository.findPostSummariesByFilters(
+                title != null && !title.trim().isEmpty() ? title.trim() : null,
+                author != null && !author.trim().isEmpty() ? author.trim() : null,
+                createdDate,
+                lastModifiedDate
+        );
+    }
+
+    @Override
+    public List<PostSummaryDTO> searchPosts(String query, String author, int page, int size) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        List<Long> rankedIds = postRepository.searchIds(
+                query.trim(),
+                author != null && !author.trim().isEmpty() ? author.trim() : null,
+                PageRequest.of(page, size));
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // IN (...) loses the relevance order, so restore it from the ranked ids
+        Map<Long, PostSummaryDTO> summariesById = postRepository.findSummariesByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(PostSummaryDTO::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public PostDTO getPostById(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new PostNotFoundException("Post with ID " + id + " not found."));
         return postDTOConverter.convertToDTO(post);
     }
+
+    @Override
+    public List<PostDTO> getPostsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        return postRepository.findAllById(ids).stream()
+                .map(postDTOConverter::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    // The caller edited a specific version; refuse to apply it on top of a newer one
+    private void checkVersion(Post post, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != post.getVersion()) {
+            throw new PostVersionConflictException("Post with ID " + post.getId() + " is at version "
+                    + post.getVersion() + ", not " + expectedVersion + ".", post.getVersion());
+        }
+    }
+
+    @Override
+    public String getPostsETag(PostStatus status) {
+        return PostValidator.combinedETag(postRepository.findValidatorsByStatus(status));
+    }
 }
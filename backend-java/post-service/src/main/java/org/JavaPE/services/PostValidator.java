@@ -0,0 +1,59 @@
+package org.JavaPE.services;
+
+import org.JavaPE.domain.PostStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * The columns an HTTP validator is built from, loaded without the post content so a
+ * conditional GET can be answered before anything is converted or serialized.
+ */
+public record PostValidator(Long id, long version, LocalDate lastModifiedDate, PostStatus status) {
+
+    public String etag() {
+        return etagOf(id, version);
+    }
+
+    // Every write bumps the version, so id + version identifies one exact representation
+    public static String etagOf(Long id, long version) {
+        return id + "-" + version;
+    }
+
+    // Inverse of etagOf for If-Match; null when the tag is weak, malformed or names another post
+    public static Long versionOf(String etag, Long id) {
+        String tag = etag.trim();
+        if (tag.startsWith("W/")) {
+            return null;
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        String prefix = id + "-";
+        if (!tag.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(tag.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static String combinedETag(List<PostValidator> validators) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (PostValidator validator : validators) {
+                digest.update(validator.etag().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return validators.size() + "-" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -2,6 +2,11 @@ package controller;
 
 import org.JavaPE.controller.PostController;
 import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.controller.dto.PostPageDTO;
+import org.JavaPE.controller.dto.PostSummaryDTO;
+import org.JavaPE.domain.Post;
+import org.JavaPE.domain.PostStatus;
+import org.JavaPE.exception.PostVersionConflictException;
 import org.JavaPE.services.PostService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -17,6 +23,8 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +46,8 @@ public class PostControllerTest {
 
     private PostDTO postDTO;
 
+    private PostSummaryDTO summaryDTO;
+
     @BeforeEach
     void setUp() {
         postDTO = new PostDTO();
@@ -46,6 +56,9 @@ public class PostControllerTest {
         postDTO.setTitle("Sample Title");
         postDTO.setContent("Sample Content");
         // Initialize other fields if necessary
+
+        summaryDTO = new PostSummaryDTO(1L, "Sample Title", "Author", LocalDate.now(), LocalDate.now(),
+                PostStatus.PUBLISHED, "Sample Content");
     }
 
     @Test
@@ -101,7 +114,6 @@ public class PostControllerTest {
         // Assert
         result.andExpect(status().isForbidden());
         verify(postService, never()).editPost(eq(1L), any(PostDTO.class));
-        verify(postService, never()).sendForReview(any(PostDTO.class));
     }
 
     @Test
@@ -135,6 +147,133 @@ public class PostControllerTest {
         verify(postService, never()).getPublishedPosts();
     }
 
+    @Test
+    void testGetPublishedPostsPage_Success() throws Exception {
+        // Arrange
+        when(postService.getPublishedPostsPage("abc", 10)).thenReturn(new PostPageDTO(List.of(summaryDTO), "next"));
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/posts/published/feed")
+                .header("X-User-Role", "user")
+                .param("cursor", "abc")
+                .param("size", "10"));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(postService, times(1)).getPublishedPostsPage("abc", 10);
+    }
+
+    @Test
+    void testGetPublishedPostsPage_ClampsPageSize() throws Exception {
+        // Arrange
+        when(postService.getPublishedPostsPage(isNull(), anyInt())).thenReturn(new PostPageDTO(List.of(), null));
+
+        // Act
+        mockMvc.perform(get("/posts/published/feed")
+                .header("X-User-Role", "user")
+                .param("size", "5000"))
+                .andExpect(status().isOk());
+
+        // Assert
+        verify(postService, times(1)).getPublishedPostsPage(null, 100);
+    }
+
+    @Test
+    void testGetPublishedPostsPage_Unauthorized() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(get("/posts/published/feed"));
+
+        // Assert
+        result.andExpect(status().isForbidden());
+        verify(postService, never()).getPublishedPostsPage(any(), anyInt());
+    }
+
+    @Test
+    void testGetPublishedPostSummaries_Success() throws Exception {
+        // Arrange
+        when(postService.getPublishedPostSummaries()).thenReturn(List.of(summaryDTO));
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/posts/published/summaries")
+                .header("X-User-Role", "user"));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(summaryDTO.getId()))
+                .andExpect(jsonPath("$[0].status").value("PUBLISHED"))
+                .andExpect(jsonPath("$[0].excerpt").value("Sample Content"))
+                .andExpect(jsonPath("$[0].content").doesNotExist());
+    }
+
+    @Test
+    void testGetDraftPostSummaries_Unauthorized() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(get("/posts/drafts/summaries"));
+
+        // Assert
+        result.andExpect(status().isForbidden());
+        verify(postService, never()).getDraftPostSummaries();
+    }
+
+    @Test
+    void testGetFilteredPostSummaries_Success() throws Exception {
+        // Arrange
+        when(postService.getPostSummariesFiltered(eq("title"), isNull(), isNull(), isNull()))
+                .thenReturn(List.of(summaryDTO));
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/posts/filtered/summaries")
+                .header("X-User-Role", "editor")
+                .param("title", "title"));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void testGetFilteredPostSummaries_Unauthorized() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(get("/posts/filtered/summaries")
+                .header("X-User-Role", "user"));
+
+        // Assert
+        result.andExpect(status().isForbidden());
+        verify(postService, never()).getPostSummariesFiltered(any(), any(), any(), any());
+    }
+
+    @Test
+    void testSearchPosts_Success() throws Exception {
+        // Arrange
+        when(postService.searchPosts("spring", null, 2, 20)).thenReturn(List.of(summaryDTO));
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/posts/search")
+                .header("X-User-Role", "editor")
+                .param("query", "spring")
+                .param("page", "2"));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(summaryDTO.getId()));
+        verify(postService, times(1)).searchPosts("spring", null, 2, 20);
+    }
+
+    @Test
+    void testSearchPosts_Unauthorized() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(get("/posts/search")
+                .header("X-User-Role", "user")
+                .param("query", "spring"));
+
+        // Assert
+        result.andExpect(status().isForbidden());
+        verify(postService, never()).searchPosts(any(), any(), anyInt(), anyInt());
+    }
+
     @Test
     void testGetDraftPosts_Success() throws Exception {
         // Arrange
@@ -212,4 +351,190 @@ public class PostControllerTest {
         result.andExpect(status().isForbidden());
         verify(postService, never()).getPostById(1L);
     }
+
+    @Test
+    void testGetPostsByIds_Success() throws Exception {
+        // Arrange
+        when(postService.getPostsByIds(List.of(1L, 2L))).thenReturn(Arrays.asList(postDTO, postDTO));
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/posts/batch")
+                .header("X-User-Role", "editor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 2]"));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(postDTO.getId()));
+
+        verify(postService, times(1)).getPostsByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    void testGetPostsByIds_Unauthorized() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(post("/posts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 2]"));
+
+        // Assert
+        result.andExpect(status().isForbidden());
+        verify(postService, never()).getPostsByIds(anyList());
+    }
+
+    @Test
+    void testGetPostsByIds_MissingBody() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(post("/posts/batch")
+                .header("X-User-Role", "editor")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // Assert
+        result.andExpect(status().isBadRequest());
+        verify(postService, never()).getPostsByIds(anyList());
+    }
+
+    @Test
+    void testGetPostsByIds_NullIds() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(post("/posts/batch")
+                .header("X-User-Role", "editor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, null]"));
+
+        // Assert
+        result.andExpect(status().isBadRequest());
+        verify(postService, never()).getPostsByIds(anyList());
+    }
+
+    @Test
+    void testGetPostsByIds_TooManyIds() throws Exception {
+        // Arrange
+        String ids = LongStream.rangeClosed(1, 201).mapToObj(Long::toString)
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/posts/batch")
+                .header("X-User-Role", "editor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(ids));
+
+        // Assert
+        result.andExpect(status().isBadRequest());
+        verify(postService, never()).getPostsByIds(anyList());
+    }
+
+    @Test
+    void testGetPublishedPostById_SetsValidators() throws Exception {
+        postDTO.setVersion(3L);
+        postDTO.setLastModifiedDate(LocalDate.of(2024, 12, 15));
+        when(postService.getPublishedPostById(1L)).thenReturn(postDTO);
+
+        mockMvc.perform(get("/posts/published/{postId}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(jsonPath("$.id").value(postDTO.getId()));
+    }
+
+    @Test
+    void testGetPublishedPostById_NotModified() throws Exception {
+        postDTO.setVersion(3L);
+        postDTO.setLastModifiedDate(LocalDate.of(2024, 12, 15));
+        when(postService.getPublishedPostById(1L)).thenReturn(postDTO);
+
+        mockMvc.perform(get("/posts/published/{postId}", 1L)
+                        .header("If-None-Match", "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // The cached DTO is the only lookup; no separate validator query
+        verify(postService).getPublishedPostById(1L);
+        verifyNoMoreInteractions(postService);
+    }
+
+    @Test
+    void testGetPostById_StaleETagReturnsBody() throws Exception {
+        postDTO.setVersion(2L);
+        when(postService.getPostById(1L)).thenReturn(postDTO);
+
+        mockMvc.perform(get("/posts/{postId}", 1L)
+                        .header("X-User-Role", "editor")
+                        .header("If-None-Match", "\"1-1\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(postDTO.getTitle()));
+    }
+
+    @Test
+    void testGetPublishedPosts_NotModified() throws Exception {
+        when(postService.getPostsETag(PostStatus.PUBLISHED)).thenReturn("2-abc");
+
+        mockMvc.perform(get("/posts/published")
+                        .header("X-User-Role", "user")
+                        .header("If-None-Match", "\"2-abc\""))
+                .andExpect(status().isNotModified());
+
+        verify(postService, never()).getPublishedPosts();
+    }
+
+    @Test
+    void testUpdatePost_IfMatchCarriesVersion() throws Exception {
+        postDTO.setVersion(4L);
+        when(postService.editPost(eq(1L), any(PostDTO.class))).thenReturn(postDTO);
+
+        mockMvc.perform(put("/posts/{postId}", 1L)
+                        .header("X-User-Role", "editor")
+                        .header("If-Match", "\"1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Updated Title\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-4\""));
+
+        verify(postService).editPost(eq(1L), argThat(dto -> Long.valueOf(3L).equals(dto.getVersion())));
+    }
+
+    @Test
+    void testUpdatePost_IfMatchMismatch() throws Exception {
+        postDTO.setVersion(5L);
+        when(postService.editPost(eq(1L), any(PostDTO.class)))
+                .thenThrow(new PostVersionConflictException("stale", 5L));
+        when(postService.getPostById(1L)).thenReturn(postDTO);
+
+        mockMvc.perform(put("/posts/{postId}", 1L)
+                        .header("X-User-Role", "editor")
+                        .header("If-Match", "\"1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Updated Title\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", "\"1-5\""))
+                .andExpect(jsonPath("$.version").value(5));
+    }
+
+    @Test
+    void testUpdatePost_IfMatchForOtherPost() throws Exception {
+        mockMvc.perform(put("/posts/{postId}", 1L)
+                        .header("X-User-Role", "editor")
+                        .header("If-Match", "\"2-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Updated Title\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(postService, never()).editPost(anyLong(), any(PostDTO.class));
+    }
+
+    @Test
+    void testUpdatePost_ConcurrentWriteConflict() throws Exception {
+        postDTO.setVersion(6L);
+        when(postService.editPost(eq(1L), any(PostDTO.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Post.class, 1L));
+        when(postService.getPostById(1L)).thenReturn(postDTO);
+
+        mockMvc.perform(put("/posts/{postId}", 1L)
+                        .header("X-User-Role", "editor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Updated Title\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.version").value(6));
+    }
 }
@@ -125,4 +125,37 @@ class PostTest {
         assertEquals(PostStatus.UNDER_REVIEW, newPost.getStatus());
         assertEquals("All Args Remarks", newPost.getRemarks());
     }
+
+    @Test
+    void testExcerptOfShortContent() {
+        assertEquals("Short content", Post.excerptOf("  Short\n  content "));
+        assertNull(Post.excerptOf(null));
+    }
+
+    @Test
+    void testExcerptOfLongContentIsTruncated() {
+        String excerpt = Post.excerptOf("a".repeat(Post.EXCERPT_LENGTH + 50));
+
+        assertEquals(Post.EXCERPT_LENGTH + 1, excerpt.length());
+        assertTrue(excerpt.endsWith("\u2026"));
+    }
+
+    @Test
+    void testContentHashOf() {
+        String hash = Post.contentHashOf("title", "content");
+
+        assertEquals(64, hash.length());
+        assertEquals(hash, Post.contentHashOf("title", "content"));
+        assertNotEquals(hash, Post.contentHashOf("title", "content!"));
+        assertNotEquals(Post.contentHashOf("ab", "c"), Post.contentHashOf("a", "bc"));
+    }
+
+    @Test
+    void testCurrentContentHashFallsBackForLegacyRows() {
+        assertNull(post.getContentHash());
+        assertEquals(Post.contentHashOf("Test Title", "This is a test content."), post.currentContentHash());
+
+        post.setContentHash("stored");
+        assertEquals("stored", post.currentContentHash());
+    }
 }
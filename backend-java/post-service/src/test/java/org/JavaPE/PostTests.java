@@ -2,16 +2,17 @@ package org.JavaPE;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.JavaPE.client.ReviewClient;
-import org.JavaPE.controller.Request.ReviewRequest;
 import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.domain.OutboxEvent;
 import org.JavaPE.domain.Post;
 import org.JavaPE.domain.PostStatus;
+import org.JavaPE.events.PostEvents;
+import org.JavaPE.repository.OutboxEventRepository;
 import org.JavaPE.repository.PostRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -50,8 +51,11 @@ public class PostTests {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
     @MockBean
-    private ReviewClient reviewClient;
+    private RabbitTemplate rabbitTemplate;
 
     @Container
     private static MySQLContainer<?> sqlContainer = new MySQLContainer<>("mysql:5.7")
@@ -70,6 +74,7 @@ public class PostTests {
     @BeforeEach
     public void setUp() {
         postRepository.deleteAll();
+        outboxEventRepository.deleteAll();
     }
 
     @Test
@@ -98,12 +103,8 @@ public class PostTests {
 
         Assertions.assertEquals(1, postRepository.findAll().size());
 
-        // Verify that 'deletePendingReviewForPost' and 'submitPostForReview' are called
-        Mockito.verify(reviewClient, Mockito.times(1))
-                .deletePendingReviewForPost(Mockito.anyLong());
-
-        Mockito.verify(reviewClient, Mockito.times(1))
-                .submitPostForReview(Mockito.any(ReviewRequest.class));
+        // Verify the review submission was recorded in the outbox instead of calling review-service
+        Assertions.assertEquals(1, outboxEventRepository.findAll().size());
     }
 
     /**
@@ -146,12 +147,11 @@ public class PostTests {
         Assertions.assertEquals("Updated Content", updatedPost.getContent());
         Assertions.assertEquals("Updated remarks", updatedPost.getRemarks());
 
-        // Verify ReviewClient interactions
-        Mockito.verify(reviewClient, Mockito.times(1))
-                .deletePendingReviewForPost(existingPost.getId());
-
-        Mockito.verify(reviewClient, Mockito.times(1))
-                .submitPostForReview(Mockito.any(ReviewRequest.class));
+        // Verify the review submission was recorded in the outbox
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(existingPost.getId(), events.get(0).getAggregateId());
+        Assertions.assertEquals(PostEvents.POST_SUBMITTED_FOR_REVIEW, events.get(0).getEventType());
     }
 
     /**
@@ -194,10 +194,6 @@ public class PostTests {
         Assertions.assertEquals("Original Title", postAfterUpdateAttempt.getTitle());
         Assertions.assertEquals("Original Content", postAfterUpdateAttempt.getContent());
         Assertions.assertEquals("Original remarks", postAfterUpdateAttempt.getRemarks());
-
-        // Verify ReviewClient was not called
-        Mockito.verify(reviewClient, Mockito.never())
-                .hasActiveReviewForPost(Mockito.anyLong());
     }
 
     /**
@@ -0,0 +1,91 @@
+package outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.JavaPE.domain.OutboxEvent;
+import org.JavaPE.events.PostEvents;
+import org.JavaPE.outbox.OutboxRelay;
+import org.JavaPE.outbox.OutboxTracing;
+import org.JavaPE.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private RabbitTemplate rabbitTemplate;
+    private RabbitOperations operations;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        operations = mock(RabbitOperations.class);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0).doInRabbit(operations));
+        relay = new OutboxRelay(outboxEventRepository, rabbitTemplate,
+                new OutboxTracing(ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, new ObjectMapper()));
+    }
+
+    @Test
+    void testRelayPendingEvents_PublishesBatchAndMarksPublished() {
+        OutboxEvent first = event(1L);
+        OutboxEvent second = event(2L);
+        when(outboxEventRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(first, second));
+
+        relay.relayPendingEvents();
+
+        verify(operations, times(2)).send(eq(PostEvents.EXCHANGE), eq(PostEvents.POST_SUBMITTED_FOR_REVIEW), any(Message.class));
+        verify(operations).waitForConfirmsOrDie(anyLong());
+        assertNotNull(first.getPublishedAt());
+        assertNotNull(second.getPublishedAt());
+        verify(outboxEventRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void testRelayPendingEvents_LeavesEventsPendingWhenBrokerFails() {
+        OutboxEvent pending = event(1L);
+        when(outboxEventRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(pending));
+        doThrow(new AmqpException("nack")).when(operations).waitForConfirmsOrDie(anyLong());
+
+        assertThrows(AmqpException.class, () -> relay.relayPendingEvents());
+
+        assertNull(pending.getPublishedAt());
+        verify(outboxEventRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testRelayPendingEvents_NothingPending() {
+        when(outboxEventRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of());
+
+        relay.relayPendingEvents();
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    private static OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateId(10L + id)
+                .eventType(PostEvents.POST_SUBMITTED_FOR_REVIEW)
+                .payload("{\"postId\":" + (10L + id) + ",\"author\":\"author\"}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.JavaPE.domain.OutboxEvent;
+import org.JavaPE.events.PostEvents;
+import org.JavaPE.outbox.OutboxTracing;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxTracingTest {
+
+    private InMemorySpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+    private OutboxTracing outboxTracing;
+
+    @BeforeEach
+    void setUp() {
+        exporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+        tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {
+        });
+        Propagator propagator = new OtelPropagator(
+                ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(
+                new ObservationHandler.FirstMatchingCompositeObservationHandler(
+                        new PropagatingSenderTracingObservationHandler<>(tracer, propagator),
+                        new PropagatingReceiverTracingObservationHandler<>(tracer, propagator),
+                        new DefaultTracingObservationHandler(tracer)));
+        outboxTracing = new OutboxTracing(observationRegistry, tracer, propagator, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void testRelayJoinsTheTraceOfTheWritingRequest() {
+        Span request = tracer.nextSpan().name("submit post").start();
+        String traceContext;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(request)) {
+            traceContext = outboxTracing.captureContext();
+        } finally {
+            request.end();
+        }
+        assertNotNull(traceContext);
+
+        AtomicReference<String> publishedInTrace = new AtomicReference<>();
+        outboxTracing.relay(event(traceContext),
+                () -> publishedInTrace.set(tracer.currentSpan().context().traceId()));
+
+        assertEquals(request.context().traceId(), publishedInTrace.get());
+        SpanData relay = exporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getName().startsWith("outbox relay"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(request.context().spanId(), relay.getParentSpanId());
+        assertEquals("12", relay.getAttributes().get(AttributeKey.stringKey("post.id")));
+    }
+
+    @Test
+    void testNothingIsCapturedOutsideATrace() {
+        assertNull(outboxTracing.captureContext());
+    }
+
+    @Test
+    void testEventWithoutContextIsStillPublished() {
+        AtomicReference<Boolean> published = new AtomicReference<>(false);
+
+        outboxTracing.relay(event(null), () -> published.set(true));
+
+        assertTrue(published.get());
+    }
+
+    private static OutboxEvent event(String traceContext) {
+        return OutboxEvent.builder()
+                .id(1L)
+                .aggregateId(12L)
+                .eventType(PostEvents.POST_SUBMITTED_FOR_REVIEW)
+                .payload("{\"postId\":12,\"author\":\"author\"}")
+                .createdAt(LocalDateTime.now())
+                .traceContext(traceContext)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.JavaPE.domain.OutboxEvent;
+import org.JavaPE.events.PostEvents;
+import org.JavaPE.events.PostPublicationEvent;
+import org.JavaPE.events.PostSubmittedForReviewEvent;
+import org.JavaPE.outbox.OutboxTracing;
+import org.JavaPE.outbox.OutboxWriter;
+import org.JavaPE.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboxWriterTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private ObjectMapper objectMapper;
+    private OutboxWriter outboxWriter;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        objectMapper = new ObjectMapper();
+        outboxWriter = new OutboxWriter(outboxEventRepository, objectMapper,
+                new OutboxTracing(ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, objectMapper));
+    }
+
+    @Test
+    void testPostSubmittedForReview() throws Exception {
+        outboxWriter.postSubmittedForReview(5L, "author");
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+
+        assertEquals(5L, event.getAggregateId());
+        assertEquals(PostEvents.POST_SUBMITTED_FOR_REVIEW, event.getEventType());
+        assertNotNull(event.getCreatedAt());
+        assertNull(event.getPublishedAt());
+
+        PostSubmittedForReviewEvent payload = objectMapper.readValue(event.getPayload(), PostSubmittedForReviewEvent.class);
+        assertEquals(5L, payload.getPostId());
+        assertEquals("author", payload.getAuthor());
+    }
+
+    @Test
+    void testPostPublishedAndUnpublished() throws Exception {
+        outboxWriter.postPublished(7L);
+        outboxWriter.postUnpublished(7L);
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(2)).save(captor.capture());
+
+        assertEquals(PostEvents.POST_PUBLISHED, captor.getAllValues().get(0).getEventType());
+        assertEquals(PostEvents.POST_UNPUBLISHED, captor.getAllValues().get(1).getEventType());
+        for (OutboxEvent event : captor.getAllValues()) {
+            assertEquals(7L, event.getAggregateId());
+            assertEquals(7L, objectMapper.readValue(event.getPayload(), PostPublicationEvent.class).getPostId());
+        }
+    }
+}
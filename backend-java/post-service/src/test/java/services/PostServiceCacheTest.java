@@ -0,0 +1,108 @@
+package services;
+
+import org.JavaPE.config.CacheConfig;
+import org.JavaPE.controller.converter.PostDTOConverter;
+import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.domain.Post;
+import org.JavaPE.domain.PostStatus;
+import org.JavaPE.outbox.OutboxWriter;
+import org.JavaPE.repository.PostRepository;
+import org.JavaPE.services.PostService;
+import org.JavaPE.services.PostServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, PostServiceImpl.class, PostDTOConverter.class})
+class PostServiceCacheTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private PostRepository postRepository;
+
+    @MockBean
+    private OutboxWriter outboxWriter;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.PUBLISHED_POSTS).clear();
+
+        post = new Post();
+        post.setId(1L);
+        post.setTitle("Title");
+        post.setContent("Content");
+        post.setStatus(PostStatus.PUBLISHED);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testGetPublishedPostById_IsServedFromCache() {
+        PostDTO first = postService.getPublishedPostById(1L);
+        PostDTO second = postService.getPublishedPostById(1L);
+
+        assertEquals("Title", first.getTitle());
+        assertSame(first, second);
+        verify(postRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testEditPost_EvictsCachedPost() {
+        postService.getPublishedPostById(1L);
+
+        PostDTO update = new PostDTO();
+        update.setTitle("New Title");
+        postService.editPost(1L, update);
+
+        assertEquals("New Title", postService.getPublishedPostById(1L).getTitle());
+    }
+
+    @Test
+    void testPublishPost_EvictsCachedPost() {
+        postService.getPublishedPostById(1L);
+
+        postService.publishPost(1L);
+        postService.getPublishedPostById(1L);
+
+        // one read per cache fill, one for publishPost itself
+        verify(postRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void testEditPost_EvictsOnlyAfterCommit() {
+        PostDTO cached = postService.getPublishedPostById(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            PostDTO update = new PostDTO();
+            update.setTitle("New Title");
+            postService.editPost(1L, update);
+
+            // Still inside the transaction: the old entry stays until the write is committed
+            assertSame(cached, postService.getPublishedPostById(1L));
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("New Title", postService.getPublishedPostById(1L).getTitle());
+    }
+}
@@ -1,19 +1,25 @@
 package services;
 
-import org.JavaPE.client.ReviewClient;
-import org.JavaPE.controller.Request.ReviewRequest;
 import org.JavaPE.controller.converter.PostDTOConverter;
 import org.JavaPE.controller.dto.PostDTO;
+import org.JavaPE.controller.dto.PostPageDTO;
+import org.JavaPE.controller.dto.PostSummaryDTO;
 import org.JavaPE.domain.Post;
 import org.JavaPE.domain.PostStatus;
+import org.JavaPE.exception.InvalidCursorException;
 import org.JavaPE.exception.PostNotFoundException;
+import org.JavaPE.exception.PostVersionConflictException;
+import org.JavaPE.outbox.OutboxWriter;
 import org.JavaPE.repository.PostRepository;
+import org.JavaPE.services.FeedCursor;
 import org.JavaPE.services.PostServiceImpl;
+import org.JavaPE.services.PostValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -32,7 +38,7 @@ class PostServiceTest {
     private PostDTOConverter postDTOConverter;
 
     @Mock
-    private ReviewClient reviewClient;
+    private OutboxWriter outboxWriter;
 
     @InjectMocks
     private PostServiceImpl postService;
@@ -46,30 +52,18 @@ class PostServiceTest {
     void testCreatePost() {
         // Mocking PostDTO and its conversion
         PostDTO postDTO = mock(PostDTO.class);
-        when(postDTO.getId()).thenReturn(1L); // Mock ID for PostDTO
+        when(postDTO.getId()).thenReturn(null); // No ID, so a new post is created
 
         Post post = mock(Post.class);
         when(postDTOConverter.convertToEntity(postDTO)).thenReturn(post);
 
-        when(post.getId()).thenReturn(null); // Ensure post is treated as new
-        when(post.getTitle()).thenReturn("title");
-        when(post.getContent()).thenReturn("content");
-
         Post savedPost = mock(Post.class);
         when(postRepository.save(post)).thenReturn(savedPost);
         when(savedPost.getId()).thenReturn(1L);
-        when(savedPost.getTitle()).thenReturn("title");
-        when(savedPost.getContent()).thenReturn("content");
+        when(savedPost.getAuthor()).thenReturn("author");
 
         PostDTO savedPostDTO = mock(PostDTO.class);
         when(postDTOConverter.convertToDTO(savedPost)).thenReturn(savedPostDTO);
-        when(savedPostDTO.getId()).thenReturn(1L);
-
-        when(postRepository.findById(1L)).thenReturn(Optional.of(savedPost));
-
-        // Mocking reviewClient interactions
-        doNothing().when(reviewClient).deletePendingReviewForPost(1L);
-        doNothing().when(reviewClient).submitPostForReview(any());
 
         // Execute the service method
         PostDTO result = postService.createOrUpdateDraft(postDTO);
@@ -77,11 +71,94 @@ class PostServiceTest {
         // Assertions
         assertNotNull(result);
         verify(postDTOConverter).convertToEntity(postDTO);
-        verify(postRepository).save(post);
-        verify(postDTOConverter, times(2)).convertToDTO(savedPost);
-        verify(postRepository).findById(1L);
-        verify(reviewClient).deletePendingReviewForPost(1L);
-        verify(reviewClient).submitPostForReview(any());
+        verify(post).setStatus(PostStatus.DRAFT);
+        verify(postRepository, times(1)).save(post);
+        verify(postRepository, never()).findById(any());
+        verify(postDTOConverter, times(1)).convertToDTO(savedPost);
+        verify(outboxWriter).postSubmittedForReview(1L, "author");
+    }
+
+    @Test
+    void testCreatePost_DuplicateDraftReturnsExisting() {
+        PostDTO postDTO = new PostDTO();
+        postDTO.setTitle("title");
+        postDTO.setContent("content");
+        postDTO.setAuthor("author");
+
+        Post existing = new Post(4L, "title", "content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.DRAFT, null);
+        PostDTO existingDTO = new PostDTO();
+        when(postRepository.findFirstByAuthorAndContentHashAndStatus(
+                "author", Post.contentHashOf("title", "content"), PostStatus.DRAFT))
+                .thenReturn(Optional.of(existing));
+        when(postDTOConverter.convertToDTO(existing)).thenReturn(existingDTO);
+
+        PostDTO result = postService.createOrUpdateDraft(postDTO);
+
+        assertSame(existingDTO, result);
+        verify(postRepository, never()).save(any());
+        verifyNoInteractions(outboxWriter);
+    }
+
+    @Test
+    void testUpdateDraft_UsesStoredContentHash() {
+        // Stored hash says the content already matches, so no content comparison is needed
+        Post existing = new Post(1L, "title", "content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.DRAFT, null);
+        existing.setContentHash(Post.contentHashOf("title", "content"));
+        PostDTO postDTO = new PostDTO();
+        postDTO.setId(1L);
+        postDTO.setTitle("title");
+        postDTO.setContent("content");
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(postRepository.save(existing)).thenReturn(existing);
+
+        postService.createOrUpdateDraft(postDTO);
+
+        verifyNoInteractions(outboxWriter);
+    }
+
+    @Test
+    void testUpdateDraft_ContentChanged() {
+        Post existing = new Post(1L, "title", "old content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.DRAFT, null);
+        PostDTO postDTO = new PostDTO();
+        postDTO.setId(1L);
+        postDTO.setTitle("title");
+        postDTO.setContent("new content");
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(postRepository.save(existing)).thenReturn(existing);
+
+        postService.createOrUpdateDraft(postDTO);
+
+        assertEquals("new content", existing.getContent());
+        verify(postRepository, times(1)).findById(1L);
+        verify(postRepository, times(1)).save(existing);
+        verify(postDTOConverter, never()).convertToEntity(any());
+        verify(outboxWriter).postSubmittedForReview(1L, "author");
+    }
+
+    @Test
+    void testUpdateDraft_Unchanged() {
+        Post existing = new Post(1L, "title", "content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.DRAFT, null);
+        PostDTO postDTO = new PostDTO();
+        postDTO.setId(1L);
+        postDTO.setTitle("title");
+        postDTO.setContent("content");
+        postDTO.setRemarks("autosave");
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(postRepository.save(existing)).thenReturn(existing);
+
+        postService.createOrUpdateDraft(postDTO);
+
+        assertEquals("autosave", existing.getRemarks());
+        verify(postRepository, times(1)).findById(1L);
+        verify(postRepository, times(1)).save(existing);
+        verifyNoInteractions(outboxWriter);
     }
 
     @Test
@@ -127,6 +204,25 @@ class PostServiceTest {
         verify(postDTOConverter).convertToDTO(updatedPost);
     }
 
+    @Test
+    void testEditPost_ChangedDraftIsResubmitted() {
+        Post existing = new Post(1L, "title", "content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.DRAFT, null);
+        PostDTO postDTO = new PostDTO();
+        postDTO.setTitle("new title");
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(postRepository.save(existing)).thenReturn(existing);
+
+        postService.editPost(1L, postDTO);
+
+        assertEquals("new title", existing.getTitle());
+        assertEquals("content", existing.getContent());
+        verify(postRepository, times(1)).findById(1L);
+        verify(postRepository, times(1)).save(existing);
+        verify(outboxWriter).postSubmittedForReview(1L, "author");
+    }
+
     @Test
     void testPublishPost() {
         Post post = mock(Post.class);
@@ -139,6 +235,36 @@ class PostServiceTest {
         verify(post).setStatus(PostStatus.PUBLISHED);
         verify(post).setLastModifiedDate(any(LocalDate.class));
         verify(postRepository).save(post);
+        verify(outboxWriter).postPublished(1L);
+    }
+
+    @Test
+    void testPublishPost_AlreadyPublished() {
+        Post post = new Post(1L, "title", "content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.PUBLISHED, null);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+
+        postService.publishPost(1L);
+
+        verify(outboxWriter, never()).postPublished(anyLong());
+    }
+
+    @Test
+    void testUpdateDraft_PublishedPostIsUnpublished() {
+        Post existing = new Post(1L, "title", "content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.PUBLISHED, null);
+        PostDTO postDTO = new PostDTO();
+        postDTO.setId(1L);
+        postDTO.setTitle("title");
+        postDTO.setContent("content");
+        when(postRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(postRepository.save(existing)).thenReturn(existing);
+
+        postService.createOrUpdateDraft(postDTO);
+
+        assertEquals(PostStatus.DRAFT, existing.getStatus());
+        verify(outboxWriter).postUnpublished(1L);
+        verify(outboxWriter, never()).postSubmittedForReview(anyLong(), any());
     }
 
     @Test
@@ -158,6 +284,43 @@ class PostServiceTest {
         verify(postDTOConverter, times(2)).convertToDTO(any(Post.class));
     }
 
+    @Test
+    void testGetPublishedPostsPage_FirstPageHasNextCursor() {
+        PostSummaryDTO first = summary(3L, LocalDate.of(2025, 1, 2));
+        PostSummaryDTO second = summary(2L, LocalDate.of(2025, 1, 1));
+        PostSummaryDTO extra = summary(1L, LocalDate.of(2025, 1, 1));
+
+        when(postRepository.findFirstPageByStatus(PostStatus.PUBLISHED, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(first, second, extra));
+
+        PostPageDTO result = postService.getPublishedPostsPage(null, 2);
+
+        assertEquals(List.of(first, second), result.getPosts());
+        assertEquals(new FeedCursor(LocalDate.of(2025, 1, 1), 2L), FeedCursor.decode(result.getNextCursor()));
+        verifyNoInteractions(postDTOConverter);
+    }
+
+    @Test
+    void testGetPublishedPostsPage_LastPageHasNoCursor() {
+        FeedCursor cursor = new FeedCursor(LocalDate.of(2025, 1, 1), 2L);
+        PostSummaryDTO last = summary(1L, LocalDate.of(2025, 1, 1));
+
+        when(postRepository.findPageByStatusAfter(
+                PostStatus.PUBLISHED, LocalDate.of(2025, 1, 1), 2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(last));
+
+        PostPageDTO result = postService.getPublishedPostsPage(cursor.encode(), 2);
+
+        assertEquals(1, result.getPosts().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetPublishedPostsPage_InvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> postService.getPublishedPostsPage("not-a-cursor", 2));
+        verifyNoInteractions(postRepository);
+    }
+
     @Test
     void testGetDraftPosts() {
         List<Post> posts = Arrays.asList(mock(Post.class), mock(Post.class));
@@ -192,6 +355,68 @@ class PostServiceTest {
         verify(postDTOConverter, times(2)).convertToDTO(any(Post.class));
     }
 
+    @Test
+    void testGetPublishedPostSummaries() {
+        List<PostSummaryDTO> summaries = List.of(summary(1L, LocalDate.now()));
+        when(postRepository.findSummariesByStatus(PostStatus.PUBLISHED)).thenReturn(summaries);
+
+        List<PostSummaryDTO> result = postService.getPublishedPostSummaries();
+
+        assertEquals(summaries, result);
+        verify(postRepository, never()).findByStatus(any());
+        verifyNoInteractions(postDTOConverter);
+    }
+
+    @Test
+    void testGetDraftPostSummaries() {
+        List<PostSummaryDTO> summaries = List.of(summary(1L, LocalDate.now()));
+        when(postRepository.findSummariesByStatus(PostStatus.DRAFT)).thenReturn(summaries);
+
+        List<PostSummaryDTO> result = postService.getDraftPostSummaries();
+
+        assertEquals(summaries, result);
+        verifyNoInteractions(postDTOConverter);
+    }
+
+    @Test
+    void testGetPostSummariesFiltered_TrimsBlankFilters() {
+        when(postRepository.findPostSummariesByFilters(null, "author", null, null)).thenReturn(List.of());
+
+        List<PostSummaryDTO> result = postService.getPostSummariesFiltered("  ", " author ", null, null);
+
+        assertTrue(result.isEmpty());
+        verify(postRepository).findPostSummariesByFilters(null, "author", null, null);
+    }
+
+    @Test
+    void testSearchPosts_KeepsRelevanceOrder() {
+        PostSummaryDTO best = summary(7L, LocalDate.now());
+        PostSummaryDTO second = summary(3L, LocalDate.now());
+
+        when(postRepository.searchIds("spring", null, PageRequest.of(0, 10))).thenReturn(List.of(7L, 3L));
+        when(postRepository.findSummariesByIdIn(List.of(7L, 3L))).thenReturn(List.of(second, best));
+
+        List<PostSummaryDTO> result = postService.searchPosts(" spring ", " ", 0, 10);
+
+        assertEquals(List.of(best, second), result);
+    }
+
+    @Test
+    void testSearchPosts_NoMatches() {
+        when(postRepository.searchIds("missing", "author", PageRequest.of(1, 10))).thenReturn(List.of());
+
+        List<PostSummaryDTO> result = postService.searchPosts("missing", "author", 1, 10);
+
+        assertTrue(result.isEmpty());
+        verify(postRepository, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void testSearchPosts_BlankQuery() {
+        assertTrue(postService.searchPosts("  ", null, 0, 10).isEmpty());
+        verifyNoInteractions(postRepository);
+    }
+
     @Test
     void testGetPostById_Success() {
         Post post = mock(Post.class);
@@ -216,24 +441,83 @@ class PostServiceTest {
     }
 
     @Test
-    void testSendForReview() {
-        PostDTO postDTO = mock(PostDTO.class);
-        Post post = mock(Post.class);
+    void testGetPostsByIds() {
+        List<Post> posts = Arrays.asList(mock(Post.class), mock(Post.class));
+        PostDTO postDTO1 = mock(PostDTO.class);
+        PostDTO postDTO2 = mock(PostDTO.class);
 
-        when(postDTO.getId()).thenReturn(1L);
-        when(postDTO.getAuthor()).thenReturn("author");
+        when(postRepository.findAllById(List.of(1L, 2L))).thenReturn(posts);
+        when(postDTOConverter.convertToDTO(posts.get(0))).thenReturn(postDTO1);
+        when(postDTOConverter.convertToDTO(posts.get(1))).thenReturn(postDTO2);
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(postDTO.getTitle()).thenReturn("Test Title");
-        when(postDTO.getContent()).thenReturn("Test Content");
+        List<PostDTO> result = postService.getPostsByIds(List.of(1L, 2L));
 
-        postService.sendForReview(postDTO);
+        assertEquals(2, result.size());
+        verify(postRepository).findAllById(List.of(1L, 2L));
+    }
 
-        verify(postRepository).findById(1L);
-        verify(post).setTitle("Test Title");
-        verify(post).setContent("Test Content");
-        verify(postRepository).save(post);
-        verify(reviewClient).submitPostForReview(any(ReviewRequest.class));
+    @Test
+    void testGetPostsByIds_EmptyIds() {
+        List<PostDTO> result = postService.getPostsByIds(List.of());
+
+        assertTrue(result.isEmpty());
+        verify(postRepository, never()).findAllById(any());
     }
 
+    private static PostSummaryDTO summary(Long id, LocalDate lastModifiedDate) {
+        return new PostSummaryDTO(id, "title", "author", lastModifiedDate, lastModifiedDate, PostStatus.PUBLISHED, "excerpt");
+    }
+
+    @Test
+    void testGetPostsETag_ChangesWithContent() {
+        PostValidator first = new PostValidator(1L, 0L, LocalDate.now(), PostStatus.PUBLISHED);
+        PostValidator second = new PostValidator(2L, 4L, LocalDate.now(), PostStatus.PUBLISHED);
+        when(postRepository.findValidatorsByStatus(PostStatus.PUBLISHED)).thenReturn(List.of(first, second));
+
+        String etag = postService.getPostsETag(PostStatus.PUBLISHED);
+
+        assertNotNull(etag);
+        assertEquals(etag, postService.getPostsETag(PostStatus.PUBLISHED));
+
+        PostValidator edited = new PostValidator(2L, 5L, LocalDate.now(), PostStatus.PUBLISHED);
+        when(postRepository.findValidatorsByStatus(PostStatus.PUBLISHED)).thenReturn(List.of(first, edited));
+        assertNotEquals(etag, postService.getPostsETag(PostStatus.PUBLISHED));
+        verifyNoInteractions(postDTOConverter);
+    }
+
+    @Test
+    void testEditPost_StaleVersionIsRejected() {
+        Post existing = new Post(1L, "title", "content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.DRAFT, null);
+        existing.setVersion(3L);
+        PostDTO postDTO = new PostDTO();
+        postDTO.setTitle("new title");
+        postDTO.setVersion(2L);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        PostVersionConflictException exception = assertThrows(PostVersionConflictException.class,
+                () -> postService.editPost(1L, postDTO));
+
+        assertEquals(3L, exception.getCurrentVersion());
+        assertEquals("title", existing.getTitle());
+        verify(postRepository, never()).save(any());
+        verifyNoInteractions(outboxWriter);
+    }
+
+    @Test
+    void testEditPost_MatchingVersionIsApplied() {
+        Post existing = new Post(1L, "title", "content", "author",
+                LocalDate.now(), LocalDate.now(), PostStatus.PUBLISHED, null);
+        existing.setVersion(3L);
+        PostDTO postDTO = new PostDTO();
+        postDTO.setTitle("new title");
+        postDTO.setVersion(3L);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(postRepository.save(existing)).thenReturn(existing);
+
+        postService.editPost(1L, postDTO);
+
+        assertEquals("new title", existing.getTitle());
+        verify(postRepository).save(existing);
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  *
  */
 @SpringBootApplication
+@EnableFeignClients
 public class ReviewServiceApplication
 {
     public static void main( String[] args )
@@ -5,15 +5,23 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(name = "post-service", path = "/posts")
+import java.util.List;
+
+@FeignClient(name = "post-service", path = "/posts", fallbackFactory = PostClientFallbackFactory.class)
 public interface PostClient {
     @GetMapping("/{id}")
     PostResponse getPostById(
             @PathVariable("id") Long postId,
             @RequestHeader("X-User-Role") String role);
 
+    @PostMapping("/batch")
+    List<PostResponse> getPostsByIds(
+            @RequestBody List<Long> postIds,
+            @RequestHeader("X-User-Role") String role);
+
     @PostMapping("/{id}/publish")
     void publishPost(
             @PathVariable("id") Long postId,
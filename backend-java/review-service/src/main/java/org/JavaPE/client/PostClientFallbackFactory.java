@@ -0,0 +1,46 @@
+package org.JavaPE.client;
+
+import org.JavaPE.controller.dto.PostResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The dashboard only uses post details for display and already falls back to placeholders
+ * for posts it could not load, so a batch lookup degrades to an empty page. Fetching or
+ * publishing a single post has no such default and fails with 503.
+ */
+@Component
+public class PostClientFallbackFactory implements FallbackFactory<PostClient> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostClientFallbackFactory.class);
+
+    @Override
+    public PostClient create(Throwable cause) {
+        return new PostClient() {
+            @Override
+            public PostResponse getPostById(Long postId, String role) {
+                throw FeignFallbacks.unavailable("post-service", cause);
+            }
+
+            @Override
+            public List<PostResponse> getPostsByIds(List<Long> postIds, String role) {
+                RuntimeException failure = FeignFallbacks.unavailable("post-service", cause);
+                if (failure == cause) {
+                    throw failure;
+                }
+                logger.warn("post-service unavailable, returning {} posts without details: {}",
+                        postIds.size(), cause.toString());
+                return List.of();
+            }
+
+            @Override
+            public void publishPost(Long postId, String role) {
+                throw FeignFallbacks.unavailable("post-service", cause);
+            }
+        };
+    }
+}
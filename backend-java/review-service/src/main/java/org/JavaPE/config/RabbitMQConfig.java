@@ -1,9 +1,11 @@
 package org.JavaPE.config;
 
+import org.JavaPE.events.PostEvents;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.amqp.RabbitTemplateConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,10 +18,12 @@ public class RabbitMQConfig {
         return new Jackson2JsonMessageConverter();
     }
 
-    // RabbitTemplate with JSON message converter
+    // RabbitTemplate with JSON message converter; the configurer applies spring.rabbitmq.template.*,
+    // including the observation that propagates the trace to listeners
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
-        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+    public RabbitTemplate rabbitTemplate(RabbitTemplateConfigurer configurer, ConnectionFactory connectionFactory) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate();
+        configurer.configure(rabbitTemplate, connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter());
         return rabbitTemplate;
     }
@@ -41,4 +45,33 @@ public class RabbitMQConfig {
     public Binding notificationBinding(Queue notificationQueue, TopicExchange notificationExchange) {
         return BindingBuilder.bind(notificationQueue).to(notificationExchange).with("notification.key");
     }
+
+    // Per-instance queue for SSE fan-out: server-named, exclusive and auto-delete, so every
+    // instance gets its own copy of each notification for the clients connected to it
+    @Bean
+    public Queue sseNotificationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding sseNotificationBinding(Queue sseNotificationQueue, TopicExchange notificationExchange) {
+        return BindingBuilder.bind(sseNotificationQueue).to(notificationExchange).with("notification.key");
+    }
+
+    // Declare the queue that receives post submissions relayed from the post-service outbox
+    @Bean
+    public Queue postSubmittedQueue() {
+        return QueueBuilder.durable("postSubmittedQueue").build();
+    }
+
+    // Declared here as well so the binding does not depend on post-service having started first
+    @Bean
+    public TopicExchange postEventsExchange() {
+        return new TopicExchange(PostEvents.EXCHANGE);
+    }
+
+    @Bean
+    public Binding postSubmittedBinding(Queue postSubmittedQueue, TopicExchange postEventsExchange) {
+        return BindingBuilder.bind(postSubmittedQueue).to(postEventsExchange).with(PostEvents.POST_SUBMITTED_FOR_REVIEW);
+    }
 }
@@ -1,15 +1,21 @@
 package org.JavaPE.controller;
 
 import org.JavaPE.controller.Request.ReviewRequest;
+import org.JavaPE.controller.dto.NotificationMessage;
 import org.JavaPE.controller.dto.RejectRequest;
 import org.JavaPE.controller.dto.ReviewWithPostDetailsDTO;
+import org.JavaPE.exception.NotificationCapacityException;
 import org.JavaPE.services.ReviewService;
+import org.JavaPE.sse.ReactiveNotificationStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -20,9 +26,11 @@ public class ReviewController {
     private static final Logger logger = LoggerFactory.getLogger(ReviewController.class);
 
     private final ReviewService reviewService;
+    private final ReactiveNotificationStream notificationStream;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, ReactiveNotificationStream notificationStream) {
         this.reviewService = reviewService;
+        this.notificationStream = notificationStream;
     }
 
     @GetMapping("/has-active-review")
@@ -123,16 +131,33 @@ public class ReviewController {
     }
 
     @GetMapping("/notifications")
-    public SseEmitter getNotifications(){
+    public SseEmitter getNotifications(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId){
         logger.info("New client connected for notifications");
 
         try {
-            SseEmitter emitter = reviewService.registerClient();
+            SseEmitter emitter = reviewService.registerClient(lastEventId);
             logger.info("Successfully registered SSE client for notifications.");
             return emitter;
+        } catch (NotificationCapacityException e) {
+            logger.warn("Rejected SSE client: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             logger.error("Error registering SSE client for notifications.", e);
             throw e;
         }
     }
+
+    // Reactive variant of /notifications with the same cap and replay; clients can move over while both run
+    @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<NotificationMessage>> streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.info("New client connected for reactive notifications");
+
+        try {
+            return notificationStream.events(lastEventId);
+        } catch (NotificationCapacityException e) {
+            logger.warn("Rejected reactive SSE client: {}", e.getMessage());
+            throw e;
+        }
+    }
 }
\ No newline at end of file
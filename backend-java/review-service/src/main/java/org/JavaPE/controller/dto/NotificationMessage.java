@@ -9,6 +9,8 @@ import java.io.Serializable;
 @Setter
 public class NotificationMessage implements Serializable {
     // Getters and Setters
+    // Assigned once at the source so every instance replays the same event under the same id
+    private String eventId;
     private Long postId;
     private String status;
     private String reviewer;
@@ -17,7 +19,8 @@ public class NotificationMessage implements Serializable {
     @Override
     public String toString() {
         return "NotificationMessage{" +
-                "postId=" + postId +
+                "eventId='" + eventId + '\'' +
+                ", postId=" + postId +
                 ", status='" + status + '\'' +
                 ", reviewer='" + reviewer + '\'' +
                 ", remarks='" + remarks + '\'' +
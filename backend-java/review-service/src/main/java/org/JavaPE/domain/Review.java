@@ -1,9 +1,13 @@
 package org.JavaPE.domain;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,6 +20,10 @@ import java.time.LocalDateTime;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_post_status", columnList = "post_id, status"),
+        @Index(name = "idx_review_status_submitted", columnList = "status, submitted_at")
+})
 public class Review {
 
     @Id
@@ -23,7 +31,8 @@ public class Review {
     private Long id;
     private Long postId;
     private String author;
-    private String status; // PENDING, APPROVED, REJECTED
+    @Enumerated(EnumType.STRING)
+    private ReviewStatus status;
     private String reviewer;
     private String remarks;
     private LocalDateTime submittedAt;
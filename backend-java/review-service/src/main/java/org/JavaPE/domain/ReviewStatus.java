@@ -0,0 +1,7 @@
+package org.JavaPE.domain;
+
+public enum ReviewStatus {
+    PENDING,
+    APPROVED,
+    REJECTED;
+}
@@ -0,0 +1,11 @@
+package org.JavaPE.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class NotificationCapacityException extends RuntimeException {
+    public NotificationCapacityException(String message) {
+        super(message);
+    }
+}
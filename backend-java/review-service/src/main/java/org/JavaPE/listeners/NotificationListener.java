@@ -1,33 +1,49 @@
 package org.JavaPE.listeners;
 
+import org.JavaPE.config.SpanAttributes;
 import org.JavaPE.controller.dto.NotificationMessage;
 import org.JavaPE.domain.Review;
 import org.JavaPE.services.ReviewService;
 import org.JavaPE.services.ReviewServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
 @Service
 public class NotificationListener {
 
+    private static final Logger logger = LoggerFactory.getLogger(NotificationListener.class);
+
     private final ReviewService reviewService;
+    private final SpanAttributes spanAttributes;
 
     // Inject your service
-    public NotificationListener(ReviewService reviewService) {
+    public NotificationListener(ReviewService reviewService, SpanAttributes spanAttributes) {
         this.reviewService = reviewService;
+        this.spanAttributes = spanAttributes;
     }
 
+    // Durable, competing-consumer queue: each notification is handled once across the cluster
     @RabbitListener(queues = "notificationQueue")
     public void handleNotification(NotificationMessage message) {
-        System.out.println("Received notification: " + message);
+        spanAttributes.postId(message.getPostId());
+        logger.debug("Received notification: {}", message);
 
         if ("approved".equals(message.getStatus())) {
-            System.out.println("Post " + message.getPostId() + " approved by " + message.getReviewer());
-            reviewService.publishToSseClients(message);
+            logger.info("Post {} approved by {}", message.getPostId(), message.getReviewer());
 
         } else if ("rejected".equals(message.getStatus())) {
-            System.out.println("Post " + message.getPostId() + " rejected by " + message.getReviewer()
-                    + " with remarks: " + message.getRemarks());
+            logger.info("Post {} rejected by {} with remarks: {}",
+                    message.getPostId(), message.getReviewer(), message.getRemarks());
+        }
+    }
+
+    // Per-instance queue: every instance pushes every notification to its own SSE clients
+    @RabbitListener(queues = "#{sseNotificationQueue.name}")
+    public void handleSseNotification(NotificationMessage message) {
+        spanAttributes.postId(message.getPostId());
+        if ("approved".equals(message.getStatus()) || "rejected".equals(message.getStatus())) {
             reviewService.publishToSseClients(message);
         }
     }
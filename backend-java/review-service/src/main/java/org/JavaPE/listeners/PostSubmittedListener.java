@@ -0,0 +1,30 @@
+package org.JavaPE.listeners;
+
+import org.JavaPE.config.SpanAttributes;
+import org.JavaPE.events.PostSubmittedForReviewEvent;
+import org.JavaPE.services.ReviewService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PostSubmittedListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSubmittedListener.class);
+
+    private final ReviewService reviewService;
+    private final SpanAttributes spanAttributes;
+
+    public PostSubmittedListener(ReviewService reviewService, SpanAttributes spanAttributes) {
+        this.reviewService = reviewService;
+        this.spanAttributes = spanAttributes;
+    }
+
+    @RabbitListener(queues = "postSubmittedQueue")
+    public void handlePostSubmitted(PostSubmittedForReviewEvent event) {
+        spanAttributes.postId(event.getPostId());
+        logger.info("Received submission for review of post {} by {}", event.getPostId(), event.getAuthor());
+        reviewService.resubmitForReview(event.getPostId(), event.getAuthor());
+    }
+}
@@ -2,10 +2,9 @@ package org.JavaPE.repository;
 
 import jakarta.transaction.Transactional;
 import org.JavaPE.domain.Review;
+import org.JavaPE.domain.ReviewStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,7 +13,10 @@ import java.util.List;
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Modifying
     @Transactional
-    void deleteByPostIdAndStatus(Long postId, String status);
+    void deleteByPostIdAndStatus(Long postId, ReviewStatus status);
 
-    boolean existsByPostIdAndStatus(Long postId, String pending);
+    boolean existsByPostIdAndStatus(Long postId, ReviewStatus status);
+
+    // The review queue without the rejected history, filtered by the status index instead of in memory
+    List<Review> findByStatusNotOrderByIdAsc(ReviewStatus status);
 }
@@ -11,6 +11,8 @@ import java.util.List;
 public interface ReviewService {
     void submitForReview(Long postId, String author);
 
+    void resubmitForReview(Long postId, String author);
+
     void approveReview(Long reviewId, String reviewer);
 
     void rejectReview(Long reviewId, String reviewer, String remarks);
@@ -19,5 +21,5 @@ public interface ReviewService {
 
      boolean hasActiveReviewForPost(Long postId);
      void publishToSseClients(NotificationMessage message);
-     SseEmitter registerClient();
+     SseEmitter registerClient(String lastEventId);
 }
@@ -1,73 +1,85 @@
 package org.JavaPE.services;
 
+import jakarta.transaction.Transactional;
 import org.JavaPE.client.PostClient;
 import org.JavaPE.controller.dto.NotificationMessage;
 import org.JavaPE.controller.dto.PostResponse;
 import org.JavaPE.controller.dto.ReviewWithPostDetailsDTO;
 import org.JavaPE.domain.Review;
+import org.JavaPE.domain.ReviewStatus;
 import org.JavaPE.repository.ReviewRepository;
+import org.JavaPE.sse.NotificationBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReviewServiceImpl.class);
+
+    private static final int POST_BATCH_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
     private final PostClient postClient;
     private final RabbitTemplate rabbitTemplate;
     private final ApplicationEventPublisher eventPublisher;
-
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final NotificationBroadcaster notificationBroadcaster;
 
     public ReviewServiceImpl(ReviewRepository reviewRepository,
                              PostClient postClient,
                              RabbitTemplate rabbitTemplate,
-                             ApplicationEventPublisher eventPublisher) {
+                             ApplicationEventPublisher eventPublisher,
+                             NotificationBroadcaster notificationBroadcaster) {
         this.reviewRepository = reviewRepository;
         this.postClient = postClient;
         this.rabbitTemplate = rabbitTemplate;
         this.eventPublisher = eventPublisher;
+        this.notificationBroadcaster = notificationBroadcaster;
     }
 
     // Submit a post for review
     public void submitForReview(Long postId, String author) {
-        System.out.println("=== ReviewService: submitForReview() ===");
-        System.out.println("postId=" + postId + ", author=" + author);
+        logger.debug("Submitting post {} by {} for review", postId, author);
 
         Review review = new Review();
         review.setPostId(postId);
         review.setAuthor(author);
-        review.setStatus("PENDING");
+        review.setStatus(ReviewStatus.PENDING);
         review.setSubmittedAt(LocalDateTime.now());
         reviewRepository.save(review);
 
-        System.out.println("Review created => ID=" + review.getId()
-                + ", postId=" + postId + ", status=PENDING");
+        logger.info("Review {} created for post {} with status PENDING", review.getId(), postId);
+    }
+
+    // Replace any pending review in one transaction; redelivered events leave a single PENDING review
+    @Transactional
+    public void resubmitForReview(Long postId, String author) {
+        removePendingReviewForPost(postId);
+        submitForReview(postId, author);
     }
 
     public boolean hasActiveReviewForPost(Long postId) {
-        System.out.println("=== ReviewService: hasActiveReviewForPost() ===");
-        boolean exists = reviewRepository.existsByPostIdAndStatus(postId, "PENDING");
-        System.out.println("postId=" + postId + ", hasActiveReview=" + exists);
+        boolean exists = reviewRepository.existsByPostIdAndStatus(postId, ReviewStatus.PENDING);
+        logger.debug("Post {} has active review: {}", postId, exists);
         return exists;
     }
 
     public void approveReview(Long reviewId, String reviewer) {
-        System.out.println("=== ReviewService: approveReview() ===");
-        System.out.println("reviewId=" + reviewId + ", reviewer=" + reviewer);
-
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found"));
 
-        System.out.println("Approving review => postId=" + review.getPostId());
+        logger.info("Review {} for post {} approved by {}", reviewId, review.getPostId(), reviewer);
 
         postClient.publishPost(review.getPostId(), "editor");
 
@@ -78,81 +90,67 @@ public class ReviewServiceImpl implements ReviewService {
 
 
     public void rejectReview(Long reviewId, String reviewer, String remarks) {
-        System.out.println("=== ReviewService: rejectReview() ===");
-        System.out.println("reviewId=" + reviewId
-                + ", reviewer=" + reviewer
-                + ", remarks=" + remarks);
-
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found"));
 
-        review.setStatus("REJECTED");
+        review.setStatus(ReviewStatus.REJECTED);
         review.setReviewer(reviewer);
         review.setRemarks(remarks);
         review.setReviewedAt(LocalDateTime.now());
 
         reviewRepository.save(review);
 
-        System.out.println("Rejected review => ID=" + review.getId()
-                + ", postId=" + review.getPostId()
-                + ", remarks=" + review.getRemarks());
+        logger.info("Review {} for post {} rejected by {} with remarks: {}",
+                review.getId(), review.getPostId(), reviewer, review.getRemarks());
 
         sendNotification(review.getPostId(), "rejected", reviewer, remarks);
     }
 
     public void removePendingReviewForPost(Long postId) {
-        System.out.println("=== ReviewService: removePendingReviewForPost() ===");
-        System.out.println("Deleting PENDING review for postId=" + postId);
+        logger.debug("Deleting PENDING review for post {}", postId);
 
-        reviewRepository.deleteByPostIdAndStatus(postId, "PENDING");
+        reviewRepository.deleteByPostIdAndStatus(postId, ReviewStatus.PENDING);
     }
 
     private void sendNotification(Long postId, String status, String reviewer, String remarks) {
-        System.out.println("=== ReviewService: sendNotification() ===");
-        System.out.println("postId=" + postId
-                + ", status=" + status
-                + ", reviewer=" + reviewer
-                + ", remarks=" + remarks);
-
         NotificationMessage message = new NotificationMessage();
+        message.setEventId(UUID.randomUUID().toString());
         message.setPostId(postId);
         message.setStatus(status);
         message.setReviewer(reviewer);
         message.setRemarks(remarks);
 
         rabbitTemplate.convertAndSend("notificationExchange", "notification.key", message);
-        System.out.println("Notification sent to RabbitMQ: " + message);
+        logger.debug("Notification sent to RabbitMQ: {}", message);
     }
 
     public void publishToSseClients(NotificationMessage message) {
-        System.out.println("=== ReviewService: publishToSseClients() ===");
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(message);
-            } catch (IOException e) {
-                emitter.completeWithError(e);
-            }
+        // Messages from producers that predate event ids still need one for replay
+        if (message.getEventId() == null) {
+            message.setEventId(UUID.randomUUID().toString());
         }
+        // Returns immediately; slow clients are handled by the broadcaster's own threads
+        notificationBroadcaster.broadcast(message.getEventId(), message);
     }
 
     public List<ReviewWithPostDetailsDTO> getAllReviewsWithPostDetails() {
-        System.out.println("=== ReviewService: getAllReviewsWithPostDetails() ===");
-        List<Review> reviews = reviewRepository.findAll();
-
         // ignoring REJECTED in final result
-        List<Review> filtered = reviews.stream()
-                .filter(review -> !"REJECTED".equalsIgnoreCase(review.getStatus()))
-                .collect(Collectors.toList());
+        List<Review> filtered = reviewRepository.findByStatusNotOrderByIdAsc(ReviewStatus.REJECTED);
 
-        System.out.println("Number of non-REJECTED reviews found: " + filtered.size());
+        logger.debug("Found {} non-REJECTED reviews", filtered.size());
+
+        Map<Long, PostResponse> postsById = fetchPostsById(filtered.stream()
+                .map(Review::getPostId)
+                .distinct()
+                .collect(Collectors.toList()));
 
         return filtered.stream()
                 .map(review -> {
-                    PostResponse postResponse = postClient.getPostById(review.getPostId(), "EDITOR");
+                    PostResponse postResponse = postsById.get(review.getPostId());
                     return new ReviewWithPostDetailsDTO(
                             review.getId(),
                             review.getPostId(),
-                            review.getStatus(),
+                            review.getStatus() != null ? review.getStatus().name() : null,
                             review.getAuthor(),
                             review.getReviewer(),
                             review.getRemarks(),
@@ -165,19 +163,23 @@ public class ReviewServiceImpl implements ReviewService {
                 .collect(Collectors.toList());
     }
 
-    public SseEmitter registerClient() {
-        System.out.println("=== ReviewService: registerClient() ===");
-        SseEmitter emitter = new SseEmitter();
-        emitters.add(emitter);
-
-        emitter.onCompletion(() -> {
-            System.out.println("SSE client onCompletion => removing emitter");
-            emitters.remove(emitter);
-        });
-        emitter.onTimeout(() -> {
-            System.out.println("SSE client onTimeout => removing emitter");
-            emitters.remove(emitter);
-        });
-        return emitter;
+    // Fetch post details in pages of POST_BATCH_SIZE ids, one post-service call per page
+    private Map<Long, PostResponse> fetchPostsById(List<Long> postIds) {
+        Map<Long, PostResponse> postsById = new HashMap<>();
+        for (int from = 0; from < postIds.size(); from += POST_BATCH_SIZE) {
+            List<Long> page = postIds.subList(from, Math.min(from + POST_BATCH_SIZE, postIds.size()));
+            List<PostResponse> posts = postClient.getPostsByIds(page, "EDITOR");
+            if (posts == null) {
+                continue;
+            }
+            for (PostResponse post : posts) {
+                postsById.put(post.getId(), post);
+            }
+        }
+        return postsById;
+    }
+
+    public SseEmitter registerClient(String lastEventId) {
+        return notificationBroadcaster.connect(lastEventId);
     }
 }
@@ -0,0 +1,340 @@
+package org.JavaPE.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.JavaPE.exception.NotificationCapacityException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans notifications out to connected SSE clients without blocking the publisher.
+ * The servlet thread returns to the container as soon as the emitter is handed back, so an
+ * idle client costs its socket and its queue but no thread; connections are capped at
+ * max-connections and refused with 503 beyond that.
+ * Each client has a bounded queue drained by a dedicated send pool, so a slow client
+ * only delays itself; when its queue is full the oldest pending event is dropped.
+ * SseEmitter.send is synchronized, and before JDK 24 a virtual thread blocked in a socket
+ * write there pins its carrier and stalls every other client. So in virtual-thread mode
+ * each drain gets its own virtual thread only on a runtime where monitors no longer pin;
+ * otherwise the send pool is made of platform threads. It keeps send-threads warm and grows to
+ * one thread per connection, since a client stalled in a socket write holds its thread until
+ * the write fails. A client that times out frees its connection slot while its write may still
+ * hold a thread, so the pool can run out; a drain it refuses evicts that client instead.
+ * Recent events are also kept in a ring buffer so a client reconnecting with Last-Event-ID
+ * is sent what it missed before it resumes the live stream.
+ * A periodic heartbeat comment goes through the same queues; on a half-open connection
+ * that write eventually fails and the client is evicted instead of lingering until timeout.
+ * Every event is also emitted on a multicast sink that ReactiveNotificationStream reads from;
+ * its clients take connection slots from here, so both endpoints share one cap and one buffer.
+ */
+@Component
+public class NotificationBroadcaster implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationBroadcaster.class);
+    // Concurrent listener threads may emit at once; the sink only accepts one emitter at a time
+    private static final Sinks.EmitFailureHandler RETRY_NON_SERIALIZED =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Sinks.Many<NotificationRingBuffer.Entry> liveEvents = Sinks.many().multicast().directBestEffort();
+    private final ExecutorService sendExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final int queueCapacity;
+    private final int maxConnections;
+    private final long timeoutMillis;
+    private final NotificationRingBuffer recentEvents;
+    private final Counter droppedEvents;
+    private final Counter evictedClients;
+    private final Counter replayedEvents;
+    private final Counter rejectedClients;
+
+    public NotificationBroadcaster(MeterRegistry meterRegistry,
+                                   @Value("${reviews.sse.client-queue-capacity:64}") int queueCapacity,
+                                   @Value("${reviews.sse.send-threads:4}") int sendThreads,
+                                   @Value("${reviews.sse.replay-buffer-size:256}") int replayBufferSize,
+                                   @Value("${reviews.sse.max-connections:1000}") int maxConnections,
+                                   @Value("${reviews.sse.timeout:30m}") String timeout,
+                                   @Value("${reviews.sse.heartbeat-interval:15s}") String heartbeatInterval,
+                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.queueCapacity = queueCapacity;
+        this.maxConnections = maxConnections;
+        this.timeoutMillis = DurationStyle.detectAndParse(timeout).toMillis();
+        this.recentEvents = new NotificationRingBuffer(replayBufferSize);
+        this.sendExecutor = virtualThreads && Runtime.version().feature() >= 24
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-send-", 0).factory())
+                : new ThreadPoolExecutor(Math.min(sendThreads, maxConnections), maxConnections,
+                        60, TimeUnit.SECONDS, new SynchronousQueue<>(), new CustomizableThreadFactory("sse-send-"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sse-heartbeat-"));
+        long heartbeatMillis = DurationStyle.detectAndParse(heartbeatInterval).toMillis();
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        Gauge.builder("reviews.sse.clients", connections, AtomicInteger::get)
+                .description("Connected SSE notification clients on either endpoint")
+                .register(meterRegistry);
+        Gauge.builder("reviews.sse.clients.max", () -> maxConnections)
+                .description("Connections accepted before new clients are turned away")
+                .register(meterRegistry);
+        Gauge.builder("reviews.sse.queue.depth", this, NotificationBroadcaster::queuedEvents)
+                .description("Events waiting to be sent, summed over all clients")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("reviews.sse.events.dropped")
+                .description("Events discarded because a client's queue was full")
+                .register(meterRegistry);
+        this.evictedClients = Counter.builder("reviews.sse.clients.evicted")
+                .description("Clients removed after a failed send")
+                .register(meterRegistry);
+        this.replayedEvents = Counter.builder("reviews.sse.events.replayed")
+                .description("Missed events re-sent to clients reconnecting with Last-Event-ID")
+                .register(meterRegistry);
+        this.rejectedClients = Counter.builder("reviews.sse.clients.rejected")
+                .description("Connections refused because the instance was at its connection limit")
+                .register(meterRegistry);
+    }
+
+    // An emitter with the configured timeout, already registered; refused with 503 when at the limit
+    public SseEmitter connect(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(emitter, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Adds a client, first sending it every buffered event after {@code lastEventId}.
+     * When that id has already been overwritten the client gets a "resync" event instead,
+     * telling it to reload rather than trust a stream with a gap in it.
+     */
+    public void register(SseEmitter emitter, String lastEventId) {
+        reserveConnection();
+
+        Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+        // Held as "draining" until the replay is out, so live events queue up behind it
+        subscriber.draining.set(true);
+        subscribers.add(subscriber);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> evict(subscriber, error));
+
+        if (lastEventId != null && !lastEventId.isBlank() && !replay(subscriber, lastEventId)) {
+            return;
+        }
+
+        subscriber.draining.set(false);
+        if (subscriber.hasPending()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // Only enqueues; the sends happen on the executor
+    public void broadcast(String eventId, Object payload) {
+        NotificationRingBuffer.Entry event = recentEvents.append(eventId, payload);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(event)) {
+                droppedEvents.increment();
+            }
+            scheduleDrain(subscriber);
+        }
+        liveEvents.emitNext(event, RETRY_NON_SERIALIZED);
+    }
+
+    public int clientCount() {
+        return subscribers.size();
+    }
+
+    // Takes a connection slot, or refuses the client with 503 when none is left
+    void reserveConnection() {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejectedClients.increment();
+            throw new NotificationCapacityException("Notification stream limit of " + maxConnections + " reached");
+        }
+    }
+
+    void releaseConnection() {
+        connections.decrementAndGet();
+    }
+
+    // Every event from now on, with its sequence so a replaying reader can skip what it already sent
+    Flux<NotificationRingBuffer.Entry> liveEvents() {
+        return liveEvents.asFlux();
+    }
+
+    // Buffered events after lastEventId, or null when the client has to resync
+    List<NotificationRingBuffer.Entry> missedEvents(String lastEventId) {
+        List<NotificationRingBuffer.Entry> missed = recentEvents.entriesAfter(lastEventId);
+        if (missed != null) {
+            replayedEvents.increment(missed.size());
+        }
+        return missed;
+    }
+
+    void recordDroppedEvent() {
+        droppedEvents.increment();
+    }
+
+    // Marks a heartbeat due on every client; it is written by the send pool after any queued events
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue.set(true);
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // False when the client failed and was evicted
+    private boolean replay(Subscriber subscriber, String lastEventId) {
+        // The subscriber is registered before the snapshot, so every later event is queued;
+        // events in both are skipped by sequence when the queue drains
+        List<NotificationRingBuffer.Entry> missed = recentEvents.entriesAfter(lastEventId);
+        try {
+            if (missed == null) {
+                logger.debug("Last-Event-ID {} is no longer buffered, asking client to resync", lastEventId);
+                subscriber.emitter.send(SseEmitter.event().name("resync").data(lastEventId));
+                return true;
+            }
+            for (NotificationRingBuffer.Entry event : missed) {
+                subscriber.emitter.send(toSseEvent(event));
+                subscriber.replayedThrough = event.sequence();
+            }
+            replayedEvents.increment(missed.size());
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            evict(subscriber, e);
+            return false;
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sendExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Thrown into the publisher or the heartbeat schedule it would requeue the message or stop heartbeats
+                subscriber.draining.set(false);
+                evict(subscriber, e);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            NotificationRingBuffer.Entry event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (event.sequence() <= subscriber.replayedThrough) {
+                    continue;
+                }
+                try {
+                    subscriber.emitter.send(toSseEvent(event));
+                } catch (IOException | IllegalStateException e) {
+                    evict(subscriber, e);
+                    return;
+                }
+            }
+            if (subscriber.heartbeatDue.getAndSet(false)) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    evict(subscriber, e);
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // Work added after the last check but before the flag was cleared would otherwise sit unsent
+        } while (subscriber.hasPending() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return false;
+        }
+        releaseConnection();
+        return true;
+    }
+
+    private void evict(Subscriber subscriber, Throwable cause) {
+        if (!remove(subscriber)) {
+            return;
+        }
+        evictedClients.increment();
+        subscriber.queue.clear();
+        logger.debug("Evicted SSE client after failed send: {}", cause.getMessage());
+        try {
+            subscriber.emitter.completeWithError(cause);
+        } catch (Exception e) {
+            logger.trace("SSE client was already completed", e);
+        }
+    }
+
+    // Unnamed, so browsers deliver it to onmessage; the id is what EventSource reconnects with
+    private static SseEmitter.SseEventBuilder toSseEvent(NotificationRingBuffer.Entry event) {
+        return SseEmitter.event().id(event.eventId()).data(event.payload());
+    }
+
+    private double queuedEvents() {
+        return subscribers.stream().mapToInt(subscriber -> subscriber.queue.size()).sum();
+    }
+
+    @Override
+    public void destroy() {
+        liveEvents.tryEmitComplete();
+        heartbeatScheduler.shutdownNow();
+        sendExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        connections.set(0);
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<NotificationRingBuffer.Entry> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private volatile long replayedThrough = -1;
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private boolean hasPending() {
+            return !queue.isEmpty() || heartbeatDue.get();
+        }
+
+        // Drop-oldest: the newest notification is the one a client most needs; false if something was dropped
+        private boolean offer(NotificationRingBuffer.Entry event) {
+            boolean dropped = false;
+            while (!queue.offer(event)) {
+                dropped |= queue.poll() != null;
+            }
+            return !dropped;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.JavaPE.sse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free record of the most recent notifications, used to replay what a
+ * reconnecting client missed. Writers claim a sequence number and overwrite the oldest slot;
+ * readers take a snapshot and keep only the unbroken run of sequence numbers after the event
+ * they look for. A writer may have claimed a sequence and not stored it yet while a later one is
+ * already in place; replaying past that gap would skip the event still on its way.
+ */
+public class NotificationRingBuffer {
+
+    public record Entry(long sequence, String eventId, Object payload) {
+    }
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    public NotificationRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public Entry append(String eventId, Object payload) {
+        long sequence = nextSequence.getAndIncrement();
+        Entry entry = new Entry(sequence, eventId, payload);
+        slots.set((int) (sequence % slots.length()), entry);
+        return entry;
+    }
+
+    /**
+     * Entries recorded after the one with the given event id, oldest first.
+     * Null when that event is no longer (or was never) in the buffer, so the caller knows
+     * the client has a gap that replay cannot fill.
+     */
+    public List<Entry> entriesAfter(String eventId) {
+        List<Entry> snapshot = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry != null) {
+                snapshot.add(entry);
+            }
+        }
+        snapshot.sort(Comparator.comparingLong(Entry::sequence));
+
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (snapshot.get(i).eventId().equals(eventId)) {
+                return contiguousAfter(snapshot, i);
+            }
+        }
+        return null;
+    }
+
+    // Stops at the first missing sequence; what follows reaches the client through its live queue
+    private static List<Entry> contiguousAfter(List<Entry> snapshot, int index) {
+        List<Entry> entries = new ArrayList<>();
+        long expected = snapshot.get(index).sequence() + 1;
+        for (int i = index + 1; i < snapshot.size() && snapshot.get(i).sequence() == expected; i++, expected++) {
+            entries.add(snapshot.get(i));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,114 @@
+package org.JavaPE.sse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.JavaPE.controller.dto.NotificationMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Notifications as a Flux for the reactive stream endpoint, read from NotificationBroadcaster's
+ * multicast sink. A subscriber holds no thread while idle. Each one takes a connection slot
+ * from the broadcaster, so the cap and the 503 cover both endpoints. A reconnecting client is
+ * replayed what it missed from the same buffer the emitter endpoint uses. Each subscriber has
+ * its own bounded buffer, so a slow client drops its oldest events and the sink is not held back.
+ */
+@Component
+public class ReactiveNotificationStream {
+
+    private final NotificationBroadcaster broadcaster;
+    private final AtomicInteger clients = new AtomicInteger();
+    private final int clientBufferSize;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+
+    public ReactiveNotificationStream(NotificationBroadcaster broadcaster,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${reviews.sse.client-queue-capacity:64}") int clientBufferSize,
+                                      @Value("${reviews.sse.timeout:30m}") String timeout,
+                                      @Value("${reviews.sse.heartbeat-interval:15s}") String heartbeatInterval) {
+        this.broadcaster = broadcaster;
+        this.clientBufferSize = clientBufferSize;
+        this.timeout = DurationStyle.detectAndParse(timeout);
+        this.heartbeatInterval = DurationStyle.detectAndParse(heartbeatInterval);
+        Gauge.builder("reviews.sse.reactive.clients", clients, AtomicInteger::get)
+                .description("Clients subscribed to the reactive notification stream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes the connection slot right away, so a full instance refuses the request with 503
+     * before any response is written. The slot is given back when the stream ends or is cancelled.
+     */
+    public Flux<ServerSentEvent<NotificationMessage>> events(String lastEventId) {
+        broadcaster.reserveConnection();
+        clients.incrementAndGet();
+        Flux<ServerSentEvent<NotificationMessage>> notifications = Flux
+                .<ServerSentEvent<NotificationMessage>>create(sink -> subscribe(sink, lastEventId))
+                .onBackpressureBuffer(clientBufferSize, dropped -> broadcaster.recordDroppedEvent(),
+                        BufferOverflowStrategy.DROP_OLDEST);
+        Flux<ServerSentEvent<NotificationMessage>> heartbeats = Flux.interval(heartbeatInterval)
+                .map(tick -> ServerSentEvent.<NotificationMessage>builder().comment("heartbeat").build());
+        return Flux.merge(notifications, heartbeats)
+                .take(timeout)
+                .doFinally(signal -> {
+                    clients.decrementAndGet();
+                    broadcaster.releaseConnection();
+                });
+    }
+
+    public int clientCount() {
+        return clients.get();
+    }
+
+    // Joins the live sink before taking the replay snapshot, so no event falls between the two
+    private void subscribe(FluxSink<ServerSentEvent<NotificationMessage>> sink, String lastEventId) {
+        ReplayGate gate = new ReplayGate();
+        Disposable live = broadcaster.liveEvents().subscribe(event -> gate.live(sink, event));
+        sink.onDispose(live);
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            gate.replay(sink, lastEventId, broadcaster.missedEvents(lastEventId));
+        }
+    }
+
+    private static ServerSentEvent<NotificationMessage> toServerSentEvent(NotificationRingBuffer.Entry event) {
+        return ServerSentEvent.builder((NotificationMessage) event.payload()).id(event.eventId()).build();
+    }
+
+    // Holds live events back while the replay is written and skips the ones it already contained
+    private static final class ReplayGate {
+        private long replayedThrough = -1;
+
+        private synchronized void replay(FluxSink<ServerSentEvent<NotificationMessage>> sink, String lastEventId,
+                                         List<NotificationRingBuffer.Entry> missed) {
+            if (missed == null) {
+                // EventSource drops events without data, so the id the client sent goes back as the payload
+                NotificationMessage resync = new NotificationMessage();
+                resync.setEventId(lastEventId);
+                sink.next(ServerSentEvent.builder(resync).event("resync").build());
+                return;
+            }
+            for (NotificationRingBuffer.Entry event : missed) {
+                sink.next(toServerSentEvent(event));
+                replayedThrough = event.sequence();
+            }
+        }
+
+        private synchronized void live(FluxSink<ServerSentEvent<NotificationMessage>> sink,
+                                       NotificationRingBuffer.Entry event) {
+            if (event.sequence() > replayedThrough) {
+                sink.next(toServerSentEvent(event));
+            }
+        }
+    }
+}
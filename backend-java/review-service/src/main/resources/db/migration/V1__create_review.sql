@@ -0,0 +1,13 @@
+-- Baseline: the table as Hibernate's ddl-auto=update created it.
+-- Existing databases are baselined at this version and skip it.
+CREATE TABLE IF NOT EXISTS review (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    post_id      BIGINT,
+    author       VARCHAR(255),
+    status       VARCHAR(255),
+    reviewer     VARCHAR(255),
+    remarks      VARCHAR(255),
+    submitted_at DATETIME(6),
+    reviewed_at  DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- Status was free-form text; the application only ever wrote these three values.
+UPDATE review SET status = 'PENDING' WHERE status IS NULL;
+UPDATE review SET status = UPPER(status);
+
+ALTER TABLE review MODIFY status ENUM ('PENDING', 'APPROVED', 'REJECTED') NOT NULL;
+
+-- has-active-review and the pending-review replacement filter on both columns
+CREATE INDEX idx_review_post_status ON review (post_id, status);
+-- The review dashboard reads by status
+CREATE INDEX idx_review_status_submitted ON review (status, submitted_at);
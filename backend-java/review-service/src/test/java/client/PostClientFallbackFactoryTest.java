@@ -0,0 +1,52 @@
+package client;
+
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.JavaPE.client.PostClient;
+import org.JavaPE.client.PostClientFallbackFactory;
+import org.JavaPE.exception.DownstreamUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostClientFallbackFactoryTest {
+
+    private final PostClientFallbackFactory factory = new PostClientFallbackFactory();
+
+    @Test
+    void testBatchLookupDegradesToEmptyWhenPostServiceIsDown() {
+        PostClient fallback = factory.create(new ConnectException("Connection refused"));
+
+        assertEquals(List.of(), fallback.getPostsByIds(List.of(1L, 2L), "EDITOR"));
+    }
+
+    @Test
+    void testSinglePostCallsFailWith503WhenCircuitIsOpen() {
+        CircuitBreaker breaker = CircuitBreaker.ofDefaults("post-service");
+        breaker.transitionToOpenState();
+        PostClient fallback = factory.create(CallNotPermittedException.createCallNotPermittedException(breaker));
+
+        assertThrows(DownstreamUnavailableException.class, () -> fallback.publishPost(1L, "editor"));
+        assertThrows(DownstreamUnavailableException.class, () -> fallback.getPostById(1L, "editor"));
+    }
+
+    @Test
+    void testClientErrorsAreRethrownUnchanged() {
+        FeignException.NotFound notFound = new FeignException.NotFound("Post not found",
+                Request.create(Request.HttpMethod.POST, "/posts/batch", Map.of(), null, StandardCharsets.UTF_8, null),
+                null, Map.of());
+        PostClient fallback = factory.create(notFound);
+
+        assertSame(notFound, assertThrows(FeignException.NotFound.class,
+                () -> fallback.getPostsByIds(List.of(1L), "EDITOR")));
+        assertSame(notFound, assertThrows(FeignException.NotFound.class,
+                () -> fallback.publishPost(1L, "editor")));
+    }
+}
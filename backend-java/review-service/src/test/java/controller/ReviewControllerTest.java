@@ -2,23 +2,30 @@ package controller;
 
 import org.JavaPE.controller.Request.ReviewRequest;
 import org.JavaPE.controller.ReviewController;
+import org.JavaPE.controller.dto.NotificationMessage;
 import org.JavaPE.controller.dto.RejectRequest;
 import org.JavaPE.controller.dto.ReviewWithPostDetailsDTO;
+import org.JavaPE.exception.NotificationCapacityException;
 import org.JavaPE.services.ReviewService;
+import org.JavaPE.sse.ReactiveNotificationStream;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -34,6 +41,9 @@ public class ReviewControllerTest {
     @MockBean
     private ReviewService reviewService;
 
+    @MockBean
+    private ReactiveNotificationStream notificationStream;
+
     @Test
     void testSubmitPostForReview() throws Exception {
         doNothing().when(reviewService).submitForReview(anyLong(), anyString());
@@ -83,10 +93,64 @@ public class ReviewControllerTest {
 
     @Test
     void testGetNotifications() throws Exception {
-        when(reviewService.registerClient()).thenReturn(new SseEmitter());
+        when(reviewService.registerClient(any())).thenReturn(new SseEmitter());
 
         ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get("/reviews/notifications"));
 
         result.andExpect(status().isOk());
     }
+
+    @Test
+    void testGetNotificationsPassesLastEventId() throws Exception {
+        when(reviewService.registerClient("event-7")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/reviews/notifications").header("Last-Event-ID", "event-7"))
+                .andExpect(status().isOk());
+
+        verify(reviewService).registerClient("event-7");
+    }
+
+    @Test
+    void testGetNotificationsAtCapacityReturns503() throws Exception {
+        when(reviewService.registerClient(any())).thenThrow(new NotificationCapacityException("full"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/reviews/notifications"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void testStreamNotificationsWritesServerSentEvents() throws Exception {
+        NotificationMessage message = new NotificationMessage();
+        message.setEventId("event-1");
+        message.setPostId(1L);
+        message.setStatus("approved");
+        when(notificationStream.events(null)).thenReturn(Flux.just(ServerSentEvent.builder(message).id("event-1").build()));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/reviews/notifications/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("id:event-1"));
+        assertTrue(body.contains("\"status\":\"approved\""));
+    }
+
+    @Test
+    void testStreamNotificationsPassesLastEventId() throws Exception {
+        when(notificationStream.events("event-7")).thenReturn(Flux.empty());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/reviews/notifications/stream").header("Last-Event-ID", "event-7"))
+                .andExpect(status().isOk());
+
+        verify(notificationStream).events("event-7");
+    }
+
+    @Test
+    void testStreamNotificationsAtCapacityReturns503() throws Exception {
+        when(notificationStream.events(any())).thenThrow(new NotificationCapacityException("full"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/reviews/notifications/stream"))
+                .andExpect(status().isServiceUnavailable());
+    }
 }
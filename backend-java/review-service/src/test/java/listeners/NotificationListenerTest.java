@@ -0,0 +1,54 @@
+package listeners;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.JavaPE.config.SpanAttributes;
+import org.JavaPE.controller.dto.NotificationMessage;
+import org.JavaPE.listeners.NotificationListener;
+import org.JavaPE.services.ReviewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+class NotificationListenerTest {
+
+    private ReviewService reviewService;
+    private NotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        reviewService = mock(ReviewService.class);
+        listener = new NotificationListener(reviewService, new SpanAttributes(ObservationRegistry.NOOP));
+    }
+
+    @Test
+    void testDurableQueueDoesNotFanOut() {
+        listener.handleNotification(message("approved"));
+
+        verifyNoInteractions(reviewService);
+    }
+
+    @Test
+    void testInstanceQueueFansOutToSseClients() {
+        NotificationMessage message = message("rejected");
+
+        listener.handleSseNotification(message);
+
+        verify(reviewService).publishToSseClients(message);
+    }
+
+    @Test
+    void testInstanceQueueIgnoresUnknownStatus() {
+        listener.handleSseNotification(message("unknown"));
+
+        verifyNoInteractions(reviewService);
+    }
+
+    private static NotificationMessage message(String status) {
+        NotificationMessage message = new NotificationMessage();
+        message.setPostId(1L);
+        message.setStatus(status);
+        message.setReviewer("reviewer");
+        return message;
+    }
+}
@@ -0,0 +1,94 @@
+package org.JavaPE;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.JavaPE.domain.Review;
+import org.JavaPE.domain.ReviewStatus;
+import org.JavaPE.repository.ReviewRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Starts the service the way it runs in production: Flyway builds the schema and Hibernate
+ * only validates it, so a mapping the migrations do not cover fails the context here.
+ */
+@SpringBootTest(classes = ReviewServiceApplication.class, properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Testcontainers
+@ActiveProfiles("test")
+public class ReviewMigrationTests {
+
+    @Container
+    private static MySQLContainer<?> sqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void registerMySQLProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", sqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", sqlContainer::getUsername);
+        registry.add("spring.datasource.password", sqlContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", sqlContainer::getDriverClassName);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Test
+    public void testAllMigrationsApplied() {
+        Set<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of("1", "2"), applied);
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    public void testPersistenceUnitHoldsOnlyReviewEntities() {
+        Set<Class<?>> entities = entityManagerFactory.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of(Review.class), entities);
+    }
+
+    @Test
+    public void testReviewRoundTripsThroughMigratedSchema() {
+        Review review = new Review(null, 1L, "author", ReviewStatus.PENDING, null, null, LocalDateTime.now(), null);
+
+        Review saved = reviewRepository.save(review);
+
+        assertNotNull(saved.getId());
+        assertEquals(ReviewStatus.PENDING, reviewRepository.findById(saved.getId()).orElseThrow().getStatus());
+    }
+}
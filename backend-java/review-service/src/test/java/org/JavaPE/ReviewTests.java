@@ -31,7 +31,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest(classes = ReviewServiceApplication.class, properties = {
         "eureka.client.enabled=false",
         "spring.cloud.discovery.enabled=false",
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
 })
 @Testcontainers
 @AutoConfigureMockMvc
@@ -290,9 +291,9 @@ public class ReviewTests {
     @Test
     public void testGetNotificationsSuccess() throws Exception {
         SseEmitter emitter = new SseEmitter();
-        Mockito.when(reviewService.registerClient()).thenReturn(emitter);
+        Mockito.when(reviewService.registerClient(null)).thenReturn(emitter);
         mockMvc.perform(get("/reviews/notifications"))
                 .andExpect(status().isOk());
-        Mockito.verify(reviewService, Mockito.times(1)).registerClient();
+        Mockito.verify(reviewService, Mockito.times(1)).registerClient(null);
     }
 }
\ No newline at end of file
@@ -5,8 +5,10 @@ import org.JavaPE.controller.dto.NotificationMessage;
 import org.JavaPE.controller.dto.PostResponse;
 import org.JavaPE.controller.dto.ReviewWithPostDetailsDTO;
 import org.JavaPE.domain.Review;
+import org.JavaPE.domain.ReviewStatus;
 import org.JavaPE.repository.ReviewRepository;
 import org.JavaPE.services.ReviewServiceImpl;
+import org.JavaPE.sse.NotificationBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -36,6 +38,9 @@ class ReviewServiceTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
 
+    @Mock
+    private NotificationBroadcaster notificationBroadcaster;
+
     @Mock
     private Review mockReview; // Mocked Review instance
 
@@ -73,10 +78,23 @@ class ReviewServiceTest {
 
         assertEquals(postId, savedReview.getPostId());
         assertEquals(author, savedReview.getAuthor());
-        assertEquals("PENDING", savedReview.getStatus());
+        assertEquals(ReviewStatus.PENDING, savedReview.getStatus());
         assertNotNull(savedReview.getSubmittedAt());
     }
 
+    @Test
+    void testResubmitForReview_ReplacesPendingReview() {
+        // Act
+        reviewService.resubmitForReview(1L, "Author");
+
+        // Assert
+        InOrder inOrder = inOrder(reviewRepository);
+        inOrder.verify(reviewRepository).deleteByPostIdAndStatus(1L, ReviewStatus.PENDING);
+        inOrder.verify(reviewRepository).save(reviewCaptor.capture());
+        assertEquals(1L, reviewCaptor.getValue().getPostId());
+        assertEquals(ReviewStatus.PENDING, reviewCaptor.getValue().getStatus());
+    }
+
     @Test
     void testApproveReview() {
         // Arrange
@@ -87,7 +105,7 @@ class ReviewServiceTest {
         // Configure mockReview behavior
         when(mockReview.getId()).thenReturn(reviewId);
         when(mockReview.getPostId()).thenReturn(postId);
-        when(mockReview.getStatus()).thenReturn("PENDING");
+        when(mockReview.getStatus()).thenReturn(ReviewStatus.PENDING);
 
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(mockReview));
 
@@ -109,6 +127,7 @@ class ReviewServiceTest {
         assertEquals(reviewer, message.getReviewer());
         assertEquals(postId, message.getPostId());
         assertNull(message.getRemarks());
+        assertNotNull(message.getEventId());
     }
 
     @Test
@@ -132,7 +151,7 @@ class ReviewServiceTest {
         // Configure mockReview behavior
         when(mockReview.getId()).thenReturn(reviewId);
         when(mockReview.getPostId()).thenReturn(2L);
-        when(mockReview.getStatus()).thenReturn("PENDING");
+        when(mockReview.getStatus()).thenReturn(ReviewStatus.PENDING);
 
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(mockReview));
 
@@ -141,7 +160,7 @@ class ReviewServiceTest {
 
         // Assert
         // Verify setters are called on mockReview
-        verify(mockReview).setStatus("REJECTED");
+        verify(mockReview).setStatus(ReviewStatus.REJECTED);
         verify(mockReview).setReviewer(reviewer);
         verify(mockReview).setRemarks(remarks);
         verify(mockReview).setReviewedAt(any(LocalDateTime.class));
@@ -171,15 +190,15 @@ class ReviewServiceTest {
     @Test
     void testGetAllReviewsWithPostDetails() {
         // Arrange
-        when(reviewRepository.findAll()).thenReturn(List.of(mockReview));
+        when(reviewRepository.findByStatusNotOrderByIdAsc(ReviewStatus.REJECTED)).thenReturn(List.of(mockReview));
 
         // Configure mockReview behavior
-        when(mockReview.getStatus()).thenReturn("PENDING");
+        when(mockReview.getStatus()).thenReturn(ReviewStatus.PENDING);
         when(mockReview.getPostId()).thenReturn(2L);
         when(mockReview.getAuthor()).thenReturn("Author");
 
         PostResponse postResponse = new PostResponse(2L, "Post Title", "Post Content", "Author");
-        when(postClient.getPostById(2L, "EDITOR")).thenReturn(postResponse);
+        when(postClient.getPostsByIds(List.of(2L), "EDITOR")).thenReturn(List.of(postResponse));
 
         // Act
         List<ReviewWithPostDetailsDTO> result = reviewService.getAllReviewsWithPostDetails();
@@ -193,30 +212,80 @@ class ReviewServiceTest {
     }
 
     @Test
-    void testGetAllReviewsWithPostDetails_RejectedFilteredOut() {
+    void testGetAllReviewsWithPostDetails_FetchesPostsInOneBatch() {
         // Arrange
-        when(reviewRepository.findAll()).thenReturn(List.of(mockReview));
+        Review first = new Review(1L, 2L, "Author", ReviewStatus.PENDING, null, null, null, null);
+        Review second = new Review(2L, 3L, "Author", ReviewStatus.PENDING, null, null, null, null);
+        Review sameAsFirst = new Review(3L, 2L, "Author", ReviewStatus.PENDING, null, null, null, null);
+        when(reviewRepository.findByStatusNotOrderByIdAsc(ReviewStatus.REJECTED)).thenReturn(List.of(first, second, sameAsFirst));
 
-        // Configure mockReview behavior
-        when(mockReview.getStatus()).thenReturn("REJECTED");
+        when(postClient.getPostsByIds(List.of(2L, 3L), "EDITOR")).thenReturn(List.of(
+                new PostResponse(2L, "Title 2", "Content 2", "Author"),
+                new PostResponse(3L, "Title 3", "Content 3", "Author")));
+
+        // Act
+        List<ReviewWithPostDetailsDTO> result = reviewService.getAllReviewsWithPostDetails();
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals("Title 2", result.get(0).getPostTitle());
+        assertEquals("Title 3", result.get(1).getPostTitle());
+        assertEquals("Title 2", result.get(2).getPostTitle());
+        verify(postClient, times(1)).getPostsByIds(anyList(), eq("EDITOR"));
+        verify(postClient, never()).getPostById(anyLong(), anyString());
+    }
+
+    @Test
+    void testGetAllReviewsWithPostDetails_RejectedFilteredOut() {
+        // Arrange
+        when(reviewRepository.findByStatusNotOrderByIdAsc(ReviewStatus.REJECTED)).thenReturn(List.of());
 
         // Act
         List<ReviewWithPostDetailsDTO> result = reviewService.getAllReviewsWithPostDetails();
 
         // Assert
-        assertEquals(0, result.size()); // Rejected reviews are filtered out
+        assertEquals(0, result.size()); // Rejected reviews are filtered out by the query
+        verify(reviewRepository).findByStatusNotOrderByIdAsc(ReviewStatus.REJECTED);
+        verify(reviewRepository, never()).findAll();
+        verifyNoInteractions(postClient);
     }
 
     @Test
     void testRegisterClient() {
+        // Arrange
+        when(notificationBroadcaster.connect("event-1")).thenReturn(new SseEmitter());
+
         // Act
-        SseEmitter emitter = reviewService.registerClient();
+        SseEmitter emitter = reviewService.registerClient("event-1");
 
         // Assert
         assertNotNull(emitter);
+        verify(notificationBroadcaster).connect("event-1");
         verifyNoInteractions(mockEmitter1, mockEmitter2); // No interactions with mock emitters yet
     }
 
+    @Test
+    void testPublishToSseClients_HandsOffToBroadcaster() {
+        NotificationMessage message = new NotificationMessage();
+        message.setPostId(1L);
+        message.setStatus("approved");
+        message.setEventId("event-1");
+
+        reviewService.publishToSseClients(message);
+
+        verify(notificationBroadcaster).broadcast("event-1", message);
+    }
+
+    @Test
+    void testPublishToSseClients_AssignsMissingEventId() {
+        NotificationMessage message = new NotificationMessage();
+        message.setPostId(1L);
+
+        reviewService.publishToSseClients(message);
+
+        verify(notificationBroadcaster).broadcast(anyString(), eq(message));
+    }
+
     // New Test Methods
 
     /**
@@ -226,14 +295,14 @@ class ReviewServiceTest {
     void testHasActiveReviewForPost_WhenExists() {
         // Arrange
         Long postId = 1L;
-        when(reviewRepository.existsByPostIdAndStatus(postId, "PENDING")).thenReturn(true);
+        when(reviewRepository.existsByPostIdAndStatus(postId, ReviewStatus.PENDING)).thenReturn(true);
 
         // Act
         boolean hasActive = reviewService.hasActiveReviewForPost(postId);
 
         // Assert
         assertTrue(hasActive);
-        verify(reviewRepository).existsByPostIdAndStatus(postId, "PENDING");
+        verify(reviewRepository).existsByPostIdAndStatus(postId, ReviewStatus.PENDING);
     }
 
     /**
@@ -243,14 +312,14 @@ class ReviewServiceTest {
     void testHasActiveReviewForPost_WhenNotExists() {
         // Arrange
         Long postId = 1L;
-        when(reviewRepository.existsByPostIdAndStatus(postId, "PENDING")).thenReturn(false);
+        when(reviewRepository.existsByPostIdAndStatus(postId, ReviewStatus.PENDING)).thenReturn(false);
 
         // Act
         boolean hasActive = reviewService.hasActiveReviewForPost(postId);
 
         // Assert
         assertFalse(hasActive);
-        verify(reviewRepository).existsByPostIdAndStatus(postId, "PENDING");
+        verify(reviewRepository).existsByPostIdAndStatus(postId, ReviewStatus.PENDING);
     }
 
     /**
@@ -260,13 +329,13 @@ class ReviewServiceTest {
     void testRemovePendingReviewForPost_WhenExists() {
         // Arrange
         Long postId = 1L;
-        doNothing().when(reviewRepository).deleteByPostIdAndStatus(postId, "PENDING");
+        doNothing().when(reviewRepository).deleteByPostIdAndStatus(postId, ReviewStatus.PENDING);
 
         // Act
         reviewService.removePendingReviewForPost(postId);
 
         // Assert
-        verify(reviewRepository).deleteByPostIdAndStatus(postId, "PENDING");
+        verify(reviewRepository).deleteByPostIdAndStatus(postId, ReviewStatus.PENDING);
     }
 
     /**
@@ -277,13 +346,13 @@ class ReviewServiceTest {
     void testRemovePendingReviewForPost_WhenNotExists() {
         // Arrange
         Long postId = 1L;
-        doNothing().when(reviewRepository).deleteByPostIdAndStatus(postId, "PENDING");
+        doNothing().when(reviewRepository).deleteByPostIdAndStatus(postId, ReviewStatus.PENDING);
 
         // Act
         reviewService.removePendingReviewForPost(postId);
 
         // Assert
-        verify(reviewRepository).deleteByPostIdAndStatus(postId, "PENDING");
+        verify(reviewRepository).deleteByPostIdAndStatus(postId, ReviewStatus.PENDING);
         // Additional assertions can be added if the method has different behaviors based on existence
     }
 
@@ -295,26 +364,27 @@ class ReviewServiceTest {
         // Arrange
         ReviewServiceImpl spyService = Mockito.spy(reviewService);
         SseEmitter newEmitter = new SseEmitter();
+        when(notificationBroadcaster.connect(null)).thenReturn(newEmitter);
 
         // Act
-        SseEmitter registeredEmitter = spyService.registerClient();
+        SseEmitter registeredEmitter = spyService.registerClient(null);
 
-        assertNotNull(registeredEmitter);
-        verify(spyService).registerClient();
+        assertSame(newEmitter, registeredEmitter);
+        verify(spyService).registerClient(null);
     }
 
     @Test
     void testGetAllReviewsWithPostDetails_PostClientReturnsNull() {
         // Arrange
-        when(reviewRepository.findAll()).thenReturn(List.of(mockReview));
+        when(reviewRepository.findByStatusNotOrderByIdAsc(ReviewStatus.REJECTED)).thenReturn(List.of(mockReview));
 
         // Configure mockReview behavior
-        when(mockReview.getStatus()).thenReturn("PENDING");
+        when(mockReview.getStatus()).thenReturn(ReviewStatus.PENDING);
         when(mockReview.getPostId()).thenReturn(2L);
         when(mockReview.getAuthor()).thenReturn("Author");
 
         // Simulate postClient returning null
-        when(postClient.getPostById(2L, "EDITOR")).thenReturn(null);
+        when(postClient.getPostsByIds(List.of(2L), "EDITOR")).thenReturn(null);
 
         // Act
         List<ReviewWithPostDetailsDTO> result = reviewService.getAllReviewsWithPostDetails();
@@ -0,0 +1,259 @@
+package sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.JavaPE.exception.NotificationCapacityException;
+import org.JavaPE.sse.NotificationBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NotificationBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new NotificationBroadcaster(meterRegistry, 2, 2, 4, 2, "30m", "1h", false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void testBroadcastSendsToEveryClient() throws Exception {
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        broadcaster.register(first, null);
+        broadcaster.register(second, null);
+
+        broadcaster.broadcast("id-1", "event");
+
+        verify(first, timeout(5000)).send(argThat(event("id-1", "event")));
+        verify(second, timeout(5000)).send(argThat(event("id-1", "event")));
+        assertEquals(2, meterRegistry.get("reviews.sse.clients").gauge().value());
+    }
+
+    @Test
+    void testSlowClientDoesNotBlockOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter slow = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(slow).send(any(SseEmitter.SseEventBuilder.class));
+        SseEmitter fast = mock(SseEmitter.class);
+        broadcaster.register(slow, null);
+        broadcaster.register(fast, null);
+
+        for (int i = 0; i < 5; i++) {
+            broadcaster.broadcast("id-" + i, "event-" + i);
+        }
+
+        verify(fast, timeout(5000)).send(argThat(event("id-4", "event-4")));
+        // The slow client holds one event in flight and a queue of two; the rest were dropped oldest-first
+        assertTrue(meterRegistry.get("reviews.sse.events.dropped").counter().count() >= 2);
+        release.countDown();
+        verify(slow, timeout(5000)).send(argThat(event("id-4", "event-4")));
+    }
+
+    @Test
+    void testStalledClientsDoNotHoldUpTheSendPool() throws Exception {
+        NotificationBroadcaster single = new NotificationBroadcaster(meterRegistry, 2, 1, 4, 3, "30m", "1h", false);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            SseEmitter firstStalled = mock(SseEmitter.class);
+            SseEmitter secondStalled = mock(SseEmitter.class);
+            for (SseEmitter stalled : new SseEmitter[]{firstStalled, secondStalled}) {
+                doAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return null;
+                }).when(stalled).send(any(SseEmitter.SseEventBuilder.class));
+            }
+            SseEmitter healthy = mock(SseEmitter.class);
+            single.register(firstStalled, null);
+            single.register(secondStalled, null);
+            single.register(healthy, null);
+
+            single.broadcast("id-1", "event");
+
+            // One configured send thread, yet both stalled writes leave the third client served
+            verify(healthy, timeout(2000)).send(argThat(event("id-1", "event")));
+        } finally {
+            release.countDown();
+            single.destroy();
+        }
+    }
+
+    @Test
+    void testClientIsEvictedWhenTheSendPoolIsExhausted() throws Exception {
+        NotificationBroadcaster single = new NotificationBroadcaster(meterRegistry, 2, 1, 4, 1, "30m", "1h", false);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        try {
+            SseEmitter stalled = mock(SseEmitter.class);
+            doAnswer(invocation -> {
+                sending.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(stalled).send(any(SseEmitter.SseEventBuilder.class));
+            ArgumentCaptor<Runnable> onCompletion = ArgumentCaptor.forClass(Runnable.class);
+            single.register(stalled, null);
+            verify(stalled).onCompletion(onCompletion.capture());
+            single.broadcast("id-1", "event");
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+            // The stalled client times out and gives up its slot while its write still holds the only thread
+            onCompletion.getValue().run();
+            SseEmitter next = mock(SseEmitter.class);
+            single.register(next, null);
+
+            assertDoesNotThrow(() -> single.broadcast("id-2", "another"));
+            verify(next).completeWithError(any(RejectedExecutionException.class));
+            assertEquals(0, single.clientCount());
+            assertEquals(1, meterRegistry.get("reviews.sse.clients.evicted").counter().count());
+        } finally {
+            release.countDown();
+            single.destroy();
+        }
+    }
+
+    @Test
+    void testFailedClientIsEvicted() throws Exception {
+        SseEmitter broken = mock(SseEmitter.class);
+        doThrow(new IOException("connection reset")).when(broken).send(any(SseEmitter.SseEventBuilder.class));
+        // completeWithError is synchronized, so a timed verify on it would hold the lock the sender needs
+        CountDownLatch completed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            completed.countDown();
+            return null;
+        }).when(broken).completeWithError(any(IOException.class));
+        broadcaster.register(broken, null);
+
+        broadcaster.broadcast("id-1", "event");
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, broadcaster.clientCount());
+        assertEquals(1, meterRegistry.get("reviews.sse.clients.evicted").counter().count());
+
+        broadcaster.broadcast("id-2", "another");
+        verify(broken, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void testReconnectingClientIsSentWhatItMissed() throws Exception {
+        broadcaster.broadcast("id-1", "first");
+        broadcaster.broadcast("id-2", "second");
+        broadcaster.broadcast("id-3", "third");
+        SseEmitter client = mock(SseEmitter.class);
+
+        broadcaster.register(client, "id-1");
+        broadcaster.broadcast("id-4", "fourth");
+
+        verify(client, timeout(5000)).send(argThat(event("id-4", "fourth")));
+        InOrder inOrder = inOrder(client);
+        inOrder.verify(client).send(argThat(event("id-2", "second")));
+        inOrder.verify(client).send(argThat(event("id-3", "third")));
+        inOrder.verify(client).send(argThat(event("id-4", "fourth")));
+        verify(client, times(3)).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(2, meterRegistry.get("reviews.sse.events.replayed").counter().count());
+    }
+
+    @Test
+    void testClientBehindTheBufferIsToldToResync() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            broadcaster.broadcast("id-" + i, "event-" + i);
+        }
+        SseEmitter client = mock(SseEmitter.class);
+
+        // A buffer of four no longer holds id-0
+        broadcaster.register(client, "id-0");
+
+        verify(client).send(argThat(resync()));
+        verify(client, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(1, broadcaster.clientCount());
+    }
+
+    // build() appends a terminator on every call and matchers may run more than once, so match the prefix
+    @Test
+    void testConnectionsBeyondTheLimitAreRejected() {
+        SseEmitter first = mock(SseEmitter.class);
+        broadcaster.register(first, null);
+        broadcaster.register(mock(SseEmitter.class), null);
+
+        assertThrows(NotificationCapacityException.class, () -> broadcaster.register(mock(SseEmitter.class), null));
+        assertEquals(1, meterRegistry.get("reviews.sse.clients.rejected").counter().count());
+
+        // A completed stream frees its slot
+        ArgumentCaptor<Runnable> onCompletion = ArgumentCaptor.forClass(Runnable.class);
+        verify(first).onCompletion(onCompletion.capture());
+        onCompletion.getValue().run();
+        broadcaster.register(mock(SseEmitter.class), null);
+        assertEquals(2, broadcaster.clientCount());
+    }
+
+    @Test
+    void testConnectUsesConfiguredTimeout() {
+        SseEmitter emitter = broadcaster.connect(null);
+
+        assertEquals(30 * 60 * 1000L, emitter.getTimeout());
+        assertEquals(1, broadcaster.clientCount());
+    }
+
+    @Test
+    void testHeartbeatEvictsDeadConnections() throws Exception {
+        NotificationBroadcaster beating = new NotificationBroadcaster(meterRegistry, 2, 2, 4, 2, "30m", "50ms", false);
+        try {
+            SseEmitter alive = mock(SseEmitter.class);
+            SseEmitter dead = mock(SseEmitter.class);
+            doThrow(new IOException("broken pipe")).when(dead).send(any(SseEmitter.SseEventBuilder.class));
+            CountDownLatch completed = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                completed.countDown();
+                return null;
+            }).when(dead).completeWithError(any(IOException.class));
+            beating.register(alive, null);
+            beating.register(dead, null);
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            verify(alive, timeout(5000).atLeastOnce()).send(argThat(heartbeat()));
+            assertEquals(1, beating.clientCount());
+        } finally {
+            beating.destroy();
+        }
+    }
+
+    private static ArgumentMatcher<SseEmitter.SseEventBuilder> heartbeat() {
+        return builder -> render(builder).startsWith(":heartbeat\n");
+    }
+
+    private static ArgumentMatcher<SseEmitter.SseEventBuilder> event(String id, String data) {
+        return builder -> render(builder).startsWith("id:" + id + "\ndata:" + data + "\n");
+    }
+
+    private static ArgumentMatcher<SseEmitter.SseEventBuilder> resync() {
+        return builder -> render(builder).startsWith("event:resync\n");
+    }
+
+    private static String render(SseEmitter.SseEventBuilder builder) {
+        return builder.build().stream()
+                .map(part -> part.getData().toString())
+                .collect(Collectors.joining());
+    }
+}
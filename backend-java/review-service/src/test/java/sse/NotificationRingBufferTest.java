@@ -0,0 +1,57 @@
+package sse;
+
+import org.JavaPE.sse.NotificationRingBuffer;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationRingBufferTest {
+
+    @Test
+    void testEntriesAfterReturnsLaterEventsInOrder() {
+        NotificationRingBuffer buffer = new NotificationRingBuffer(4);
+        buffer.append("a", "first");
+        buffer.append("b", "second");
+        buffer.append("c", "third");
+
+        List<NotificationRingBuffer.Entry> missed = buffer.entriesAfter("a");
+
+        assertEquals(List.of("b", "c"), missed.stream().map(NotificationRingBuffer.Entry::eventId).toList());
+        assertTrue(buffer.entriesAfter("c").isEmpty());
+    }
+
+    @Test
+    void testOverwrittenEventIsNoLongerFound() {
+        NotificationRingBuffer buffer = new NotificationRingBuffer(2);
+        buffer.append("a", "first");
+        buffer.append("b", "second");
+        buffer.append("c", "third");
+
+        assertNull(buffer.entriesAfter("a"));
+        assertNull(buffer.entriesAfter("unknown"));
+        assertEquals(List.of("c"), buffer.entriesAfter("b").stream().map(NotificationRingBuffer.Entry::eventId).toList());
+    }
+
+    @Test
+    void testReplayStopsAtSequenceStillBeingWritten() {
+        NotificationRingBuffer buffer = new NotificationRingBuffer(4);
+        buffer.append("a", "first");
+        buffer.append("b", "second");
+        // A writer has claimed the next sequence but not stored its entry yet
+        ((AtomicLong) ReflectionTestUtils.getField(buffer, "nextSequence")).getAndIncrement();
+        buffer.append("d", "fourth");
+
+        assertEquals(List.of("b"), buffer.entriesAfter("a").stream().map(NotificationRingBuffer.Entry::eventId).toList());
+        assertTrue(buffer.entriesAfter("b").isEmpty());
+        assertTrue(buffer.entriesAfter("d").isEmpty());
+    }
+
+    @Test
+    void testCapacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new NotificationRingBuffer(0));
+    }
+}
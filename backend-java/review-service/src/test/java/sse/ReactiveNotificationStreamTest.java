@@ -0,0 +1,126 @@
+package sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.JavaPE.controller.dto.NotificationMessage;
+import org.JavaPE.exception.NotificationCapacityException;
+import org.JavaPE.sse.NotificationBroadcaster;
+import org.JavaPE.sse.ReactiveNotificationStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReactiveNotificationStreamTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationBroadcaster broadcaster;
+    private ReactiveNotificationStream stream;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new NotificationBroadcaster(meterRegistry, 2, 2, 4, 2, "30m", "1h", false);
+        stream = new ReactiveNotificationStream(broadcaster, meterRegistry, 8, "30m", "1h");
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void testBroadcastReachesEverySubscriberWithItsId() {
+        List<ServerSentEvent<NotificationMessage>> first = new CopyOnWriteArrayList<>();
+        List<ServerSentEvent<NotificationMessage>> second = new CopyOnWriteArrayList<>();
+        Disposable firstSubscription = stream.events(null).subscribe(first::add);
+        Disposable secondSubscription = stream.events(null).subscribe(second::add);
+
+        broadcaster.broadcast("event-1", message("event-1"));
+
+        assertEquals(2, stream.clientCount());
+        assertEquals(2, meterRegistry.get("reviews.sse.reactive.clients").gauge().value());
+        assertEquals("event-1", first.get(0).id());
+        assertEquals(1L, first.get(0).data().getPostId());
+        assertEquals("event-1", second.get(0).id());
+
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+        assertEquals(0, stream.clientCount());
+    }
+
+    @Test
+    void testSubscribersShareTheConnectionCapWithEmitterClients() {
+        broadcaster.register(mock(SseEmitter.class), null);
+        Disposable subscription = stream.events(null).subscribe();
+
+        assertThrows(NotificationCapacityException.class, () -> stream.events(null));
+        assertEquals(2, meterRegistry.get("reviews.sse.clients").gauge().value());
+        assertEquals(1, meterRegistry.get("reviews.sse.clients.rejected").counter().count());
+
+        // Cancelling gives the slot back
+        subscription.dispose();
+        assertDoesNotThrow(() -> stream.events(null).subscribe().dispose());
+    }
+
+    @Test
+    void testReconnectingSubscriberIsSentWhatItMissed() {
+        broadcaster.broadcast("event-1", message("event-1"));
+        broadcaster.broadcast("event-2", message("event-2"));
+        broadcaster.broadcast("event-3", message("event-3"));
+        List<ServerSentEvent<NotificationMessage>> received = new CopyOnWriteArrayList<>();
+
+        Disposable subscription = stream.events("event-1").subscribe(received::add);
+        broadcaster.broadcast("event-4", message("event-4"));
+
+        assertEquals(List.of("event-2", "event-3", "event-4"), received.stream().map(ServerSentEvent::id).toList());
+        assertEquals(2, meterRegistry.get("reviews.sse.events.replayed").counter().count());
+        subscription.dispose();
+    }
+
+    @Test
+    void testSubscriberBehindTheBufferIsToldToResync() {
+        for (int i = 0; i < 6; i++) {
+            broadcaster.broadcast("event-" + i, message("event-" + i));
+        }
+        List<ServerSentEvent<NotificationMessage>> received = new CopyOnWriteArrayList<>();
+
+        // A buffer of four no longer holds event-0
+        Disposable subscription = stream.events("event-0").subscribe(received::add);
+
+        assertEquals(1, received.size());
+        assertEquals("resync", received.get(0).event());
+        assertEquals("event-0", received.get(0).data().getEventId());
+        subscription.dispose();
+    }
+
+    @Test
+    void testIdleSubscribersReceiveHeartbeats() throws Exception {
+        ReactiveNotificationStream beating = new ReactiveNotificationStream(broadcaster, meterRegistry, 8, "30m", "50ms");
+        CountDownLatch heartbeat = new CountDownLatch(1);
+
+        Disposable subscription = beating.events(null)
+                .filter(event -> "heartbeat".equals(event.comment()))
+                .subscribe(event -> heartbeat.countDown());
+
+        assertTrue(heartbeat.await(5, TimeUnit.SECONDS));
+        subscription.dispose();
+    }
+
+    private static NotificationMessage message(String eventId) {
+        NotificationMessage message = new NotificationMessage();
+        message.setEventId(eventId);
+        message.setPostId(1L);
+        message.setStatus("approved");
+        return message;
+    }
+}